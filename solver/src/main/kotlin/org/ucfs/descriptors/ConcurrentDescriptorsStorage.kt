@@ -0,0 +1,140 @@
+package org.ucfs.descriptors
+
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ConcurrentLinkedDeque
+import java.util.concurrent.ForkJoinPool
+import java.util.concurrent.ForkJoinTask
+import java.util.concurrent.RecursiveAction
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.concurrent.atomic.AtomicReference
+
+/**
+ * Thread-safe collection of descriptors.
+ * Inside [handleAll] descriptors are handled by tasks of the pool in batches: descriptors, derived while
+ * handling a batch, are added to the same batch, and half of the batch is forked as a new task only when
+ * the pool has no queued tasks, so idle workers have something to steal. Outside of it the storage works as
+ * an ordinary LIFO storage
+ * @param VertexType - type of vertex in input graph
+ */
+class ConcurrentDescriptorsStorage<VertexType>(private val pool: ForkJoinPool) : IDescriptorsStorage<VertexType> {
+    /**
+     * Both handled and scheduled descriptors
+     */
+    private val knownDescriptors: MutableSet<Descriptor<VertexType>> = ConcurrentHashMap.newKeySet()
+
+    private val descriptorsToHandle = ConcurrentLinkedDeque<Descriptor<VertexType>>()
+
+    /**
+     * Batch of task, which runs in current thread
+     */
+    private val currentBatch = ThreadLocal<ArrayDeque<Descriptor<VertexType>>>()
+
+    /**
+     * Number of forked, but not yet finished tasks
+     */
+    private val pendingTasks = AtomicInteger()
+
+    private val failure = AtomicReference<Throwable>()
+
+    private val lock = Object()
+
+    override fun addToHandled(descriptor: Descriptor<VertexType>) {
+        knownDescriptors.add(descriptor)
+    }
+
+    override fun add(descriptor: Descriptor<VertexType>) {
+        if (!knownDescriptors.add(descriptor)) {
+            return
+        }
+        val batch = currentBatch.get()
+        if (batch == null) {
+            descriptorsToHandle.addLast(descriptor)
+        } else {
+            batch.addLast(descriptor)
+        }
+    }
+
+    override fun nextToHandle(): Descriptor<VertexType>? = descriptorsToHandle.pollLast()
+
+    /**
+     * Runs [init] and handles all descriptors added by it or derived from them in the pool.
+     * Returns when there are no descriptors left
+     * @param handler - processes one descriptor, may be called concurrently
+     * @param init - adds initial descriptors
+     */
+    fun handleAll(handler: (Descriptor<VertexType>) -> Unit, init: () -> Unit) {
+        init()
+        val batch = ArrayDeque<Descriptor<VertexType>>()
+        var descriptor = descriptorsToHandle.pollFirst()
+        while (descriptor != null) {
+            batch.addLast(descriptor)
+            descriptor = descriptorsToHandle.pollFirst()
+        }
+        if (batch.isEmpty()) {
+            return
+        }
+        fork(batch, handler)
+        synchronized(lock) {
+            while (pendingTasks.get() != 0) {
+                lock.wait()
+            }
+        }
+        failure.getAndSet(null)?.let { throw it }
+    }
+
+    private fun fork(batch: ArrayDeque<Descriptor<VertexType>>, handler: (Descriptor<VertexType>) -> Unit) {
+        pendingTasks.incrementAndGet()
+        val task = HandleBatchTask(batch, handler)
+        if (ForkJoinTask.inForkJoinPool() && ForkJoinTask.getPool() === pool) {
+            task.fork()
+        } else {
+            pool.execute(task)
+        }
+    }
+
+    private fun finishTask() {
+        if (pendingTasks.decrementAndGet() == 0) {
+            synchronized(lock) {
+                lock.notifyAll()
+            }
+        }
+    }
+
+    private inner class HandleBatchTask(
+        val batch: ArrayDeque<Descriptor<VertexType>>,
+        val handler: (Descriptor<VertexType>) -> Unit
+    ) : RecursiveAction() {
+        override fun compute() {
+            currentBatch.set(batch)
+            try {
+                while (failure.get() == null) {
+                    val descriptor = batch.removeLastOrNull() ?: break
+                    handler(descriptor)
+                    if (batch.size >= MIN_BATCH_TO_SPLIT && getSurplusQueuedTaskCount() <= 0) {
+                        split()
+                    }
+                }
+            } catch (e: Throwable) {
+                failure.compareAndSet(null, e)
+            } finally {
+                currentBatch.remove()
+                finishTask()
+            }
+        }
+
+        /**
+         * Forks the oldest half of the batch, as work-stealing pool steals the oldest tasks
+         */
+        private fun split() {
+            val half = ArrayDeque<Descriptor<VertexType>>()
+            repeat(batch.size / 2) {
+                half.addLast(batch.removeFirst())
+            }
+            fork(half, handler)
+        }
+    }
+
+    companion object {
+        private const val MIN_BATCH_TO_SPLIT = 2
+    }
+}
@@ -3,6 +3,7 @@ package org.ucfs.descriptors
 import org.ucfs.gss.GssNode
 import org.ucfs.rsm.RsmState
 import org.ucfs.sppf.node.RangeSppfNode
+import java.util.concurrent.atomic.AtomicInteger
 
 /**
  * Descriptor represents current parsing stage
@@ -30,7 +31,7 @@ data class Descriptor<InputNodeType>(
 
 ) {
     // debug only property
-    val id = lastId++
+    val id = lastId.getAndIncrement()
     override fun toString(): String {
         return "${id}\t;" +
                 "${inputPosition}\t;" +
@@ -39,4 +40,4 @@ data class Descriptor<InputNodeType>(
     }
 }
 
-var lastId = 0
+val lastId = AtomicInteger()
@@ -1,29 +1,32 @@
 package org.ucfs.descriptors
 
-import java.util.LinkedList
-
 /**
  * Collection of default descriptors
  * @param VertexType - type of vertex in input graph
+ * @param policy - order of handling descriptors
  */
-open class DescriptorsStorage<VertexType> {
+open class DescriptorsStorage<VertexType>(
+    private val policy: SchedulingPolicy<VertexType> = LifoSchedulingPolicy()
+) : IDescriptorsStorage<VertexType> {
     /**
      * Collection of already handled descriptors, accessible via descriptor's hashcode
      */
     private val handledDescriptors = HashSet<Descriptor<VertexType>>()
 
-    private val descriptorsToHandle = LinkedList<Descriptor<VertexType>>()
-
-    private fun isEmpty() = descriptorsToHandle.isEmpty()
-
-
-    fun addToHandled(descriptor: Descriptor<VertexType>) {
+    override fun addToHandled(descriptor: Descriptor<VertexType>) {
         handledDescriptors.add(descriptor)
     }
 
-    fun add(descriptor: Descriptor<VertexType>) {
+    /**
+     * Forgets that descriptor was handled, e.g. because its derivation tree is no longer valid
+     */
+    fun removeFromHandled(descriptor: Descriptor<VertexType>) {
+        handledDescriptors.remove(descriptor)
+    }
+
+    override fun add(descriptor: Descriptor<VertexType>) {
         if (!handledDescriptors.contains(descriptor)) {
-            descriptorsToHandle.addLast(descriptor)
+            policy.add(descriptor)
         }
     }
 
@@ -31,11 +34,13 @@ open class DescriptorsStorage<VertexType> {
      * Gets next descriptor to handle
      * @return default descriptor if there is available one, null otherwise
      */
-    fun nextToHandle(): Descriptor<VertexType>? {
-        if (!isEmpty()) {
-            return descriptorsToHandle.removeLast()
+    override fun nextToHandle(): Descriptor<VertexType>? {
+        var descriptor = policy.next()
+        // the same descriptor may be added several times before it is handled
+        while (descriptor != null && handledDescriptors.contains(descriptor)) {
+            descriptor = policy.next()
         }
-        return null
+        return descriptor
     }
 }
 
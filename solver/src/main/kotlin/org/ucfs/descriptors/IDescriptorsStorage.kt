@@ -0,0 +1,23 @@
+package org.ucfs.descriptors
+
+/**
+ * Collection of descriptors: already handled ones and ones waiting to be handled
+ * @param VertexType - type of vertex in input graph
+ */
+interface IDescriptorsStorage<VertexType> {
+    /**
+     * Marks descriptor as handled, so it will not be scheduled again
+     */
+    fun addToHandled(descriptor: Descriptor<VertexType>)
+
+    /**
+     * Schedules descriptor for handling, if it wasn't handled yet
+     */
+    fun add(descriptor: Descriptor<VertexType>)
+
+    /**
+     * Gets next descriptor to handle
+     * @return descriptor if there is available one, null otherwise
+     */
+    fun nextToHandle(): Descriptor<VertexType>?
+}
@@ -0,0 +1,46 @@
+package org.ucfs.descriptors
+
+import org.ucfs.sppf.node.RangeSppfNode
+
+/**
+ * Collection of descriptors, which remembers all handled descriptors by their input positions,
+ * so parsing can be continued from them after input graph is changed
+ * @param VertexType - type of vertex in input graph
+ * @param storage - underlying collection of descriptors, which supports removing of handled ones
+ */
+class IncrementalDescriptorsStorage<VertexType>(
+    private val storage: DescriptorsStorage<VertexType> = DescriptorsStorage()
+) : IDescriptorsStorage<VertexType> by storage {
+    private val handledByPosition = HashMap<VertexType, ArrayList<Descriptor<VertexType>>>()
+
+    private val handledBySppf = HashMap<RangeSppfNode<VertexType>, ArrayList<Descriptor<VertexType>>>()
+
+    /**
+     * Remembers descriptor, handled by parser. Returned by [nextToHandle] descriptor may be skipped by parser,
+     * e.g. if it is equivalent to already handled one
+     */
+    override fun addToHandled(descriptor: Descriptor<VertexType>) {
+        storage.addToHandled(descriptor)
+        handledByPosition.getOrPut(descriptor.inputPosition) { ArrayList() }.add(descriptor)
+        handledBySppf.getOrPut(descriptor.sppfNode) { ArrayList() }.add(descriptor)
+    }
+
+    /**
+     * Forgets handled descriptors with given derivation trees
+     */
+    fun removeHandled(sppfNodes: Set<RangeSppfNode<VertexType>>) {
+        for (sppfNode in sppfNodes) {
+            for (descriptor in handledBySppf.remove(sppfNode) ?: continue) {
+                storage.removeFromHandled(descriptor)
+                handledByPosition[descriptor.inputPosition]?.remove(descriptor)
+            }
+        }
+    }
+
+    /**
+     * @return descriptors, already handled at given input position
+     */
+    fun getHandled(inputPosition: VertexType): List<Descriptor<VertexType>> {
+        return handledByPosition[inputPosition] ?: emptyList()
+    }
+}
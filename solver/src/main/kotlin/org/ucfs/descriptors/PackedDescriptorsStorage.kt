@@ -0,0 +1,93 @@
+package org.ucfs.descriptors
+
+import org.ucfs.gss.GssNode
+import org.ucfs.rsm.RsmState
+import org.ucfs.sppf.node.EmptyType
+import org.ucfs.sppf.node.RangeSppfNode
+import org.ucfs.sppf.node.getEmptyRange
+import org.ucfs.utils.DenseIdMap
+import org.ucfs.utils.LongPairHashSet
+
+/**
+ * Collection of descriptors without descriptor objects inside.
+ * Vertices, GSS nodes, RSM states and SPPF nodes get dense int ids, each descriptor is packed
+ * into a pair of longs. Descriptors are deduplicated on [add], so none of them is queued twice
+ * @param VertexType - type of vertex in input graph
+ */
+class PackedDescriptorsStorage<VertexType> : IDescriptorsStorage<VertexType> {
+    private val vertices = DenseIdMap<VertexType>()
+
+    private val gssNodes = DenseIdMap<GssNode<VertexType>>(identity = true)
+
+    private val rsmStates = DenseIdMap<RsmState>(identity = true)
+
+    /**
+     * SPPF nodes are interned in SppfStorage, except empty ones, which all get id [EMPTY_SPPF_ID]
+     */
+    private val sppfNodes = DenseIdMap<RangeSppfNode<VertexType>>(identity = true)
+
+    private val emptyRange: RangeSppfNode<VertexType> = getEmptyRange()
+
+    /**
+     * Both handled and scheduled descriptors
+     */
+    private val knownDescriptors = LongPairHashSet()
+
+    /**
+     * Stack of scheduled descriptors, [DESCRIPTOR_SIZE] ints per descriptor
+     */
+    private var descriptorsToHandle = IntArray(DESCRIPTOR_SIZE * 16)
+
+    private var top = 0
+
+    init {
+        sppfNodes.getId(emptyRange)
+    }
+
+    override fun addToHandled(descriptor: Descriptor<VertexType>) {
+        add(descriptor, schedule = false)
+    }
+
+    override fun add(descriptor: Descriptor<VertexType>) {
+        add(descriptor, schedule = true)
+    }
+
+    private fun add(descriptor: Descriptor<VertexType>, schedule: Boolean) {
+        val vertex = vertices.getId(descriptor.inputPosition)
+        val gssNode = gssNodes.getId(descriptor.gssNode)
+        val rsmState = rsmStates.getId(descriptor.rsmState)
+        val sppfNode = if (descriptor.sppfNode.type is EmptyType) EMPTY_SPPF_ID
+        else sppfNodes.getId(descriptor.sppfNode)
+
+        if (!knownDescriptors.add(pack(vertex, gssNode), pack(rsmState, sppfNode)) || !schedule) {
+            return
+        }
+        if (top + DESCRIPTOR_SIZE > descriptorsToHandle.size) {
+            descriptorsToHandle = descriptorsToHandle.copyOf(2 * descriptorsToHandle.size)
+        }
+        descriptorsToHandle[top++] = vertex
+        descriptorsToHandle[top++] = gssNode
+        descriptorsToHandle[top++] = rsmState
+        descriptorsToHandle[top++] = sppfNode
+    }
+
+    override fun nextToHandle(): Descriptor<VertexType>? {
+        if (top == 0) {
+            return null
+        }
+        top -= DESCRIPTOR_SIZE
+        return Descriptor(
+            vertices[descriptorsToHandle[top]],
+            gssNodes[descriptorsToHandle[top + 1]],
+            rsmStates[descriptorsToHandle[top + 2]],
+            sppfNodes[descriptorsToHandle[top + 3]]
+        )
+    }
+
+    companion object {
+        private const val DESCRIPTOR_SIZE = 4
+        private const val EMPTY_SPPF_ID = 0
+
+        private fun pack(high: Int, low: Int): Long = (high.toLong() shl 32) or (low.toLong() and 0xFFFFFFFFL)
+    }
+}
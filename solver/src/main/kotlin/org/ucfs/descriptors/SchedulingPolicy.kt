@@ -0,0 +1,84 @@
+package org.ucfs.descriptors
+
+import org.ucfs.rsm.RsmState
+import java.util.PriorityQueue
+
+/**
+ * Order, in which descriptors waiting in [DescriptorsStorage] are handled
+ * @param VertexType - type of vertex in input graph
+ */
+interface SchedulingPolicy<VertexType> {
+    fun add(descriptor: Descriptor<VertexType>)
+
+    /**
+     * @return next descriptor to handle or null, if there are no descriptors
+     */
+    fun next(): Descriptor<VertexType>?
+}
+
+/**
+ * Depth-first order: the last added descriptor is handled first. Default one
+ */
+class LifoSchedulingPolicy<VertexType> : SchedulingPolicy<VertexType> {
+    private val descriptors = ArrayDeque<Descriptor<VertexType>>()
+
+    override fun add(descriptor: Descriptor<VertexType>) = descriptors.addLast(descriptor)
+
+    override fun next(): Descriptor<VertexType>? = descriptors.removeLastOrNull()
+}
+
+/**
+ * Breadth-first order: descriptors are handled in order of adding
+ */
+class FifoSchedulingPolicy<VertexType> : SchedulingPolicy<VertexType> {
+    private val descriptors = ArrayDeque<Descriptor<VertexType>>()
+
+    override fun add(descriptor: Descriptor<VertexType>) = descriptors.addLast(descriptor)
+
+    override fun next(): Descriptor<VertexType>? = descriptors.removeFirstOrNull()
+}
+
+/**
+ * Base for policies with priority queue. Descriptors with the same priority are handled in LIFO order
+ * @param comparator - descriptor with the least value is handled first
+ */
+abstract class PrioritySchedulingPolicy<VertexType>(
+    comparator: Comparator<Descriptor<VertexType>>
+) : SchedulingPolicy<VertexType> {
+    private class Entry<VertexType>(val descriptor: Descriptor<VertexType>, val order: Long)
+
+    private var addedCount = 0L
+
+    private val descriptors = PriorityQueue<Entry<VertexType>>(
+        compareBy<Entry<VertexType>, Descriptor<VertexType>>(comparator) { it.descriptor }
+            .thenByDescending { it.order }
+    )
+
+    override fun add(descriptor: Descriptor<VertexType>) {
+        descriptors.add(Entry(descriptor, addedCount++))
+    }
+
+    override fun next(): Descriptor<VertexType>? = descriptors.poll()?.descriptor
+}
+
+/**
+ * Descriptors are handled in order of their input positions, e.g. left to right for linear input
+ * @param positionComparator - order of vertices in input graph
+ */
+class InputPositionSchedulingPolicy<VertexType>(
+    positionComparator: Comparator<VertexType>
+) : PrioritySchedulingPolicy<VertexType>(compareBy(positionComparator) { it.inputPosition }) {
+    companion object {
+        fun <VertexType : Comparable<VertexType>> natural() =
+            InputPositionSchedulingPolicy<VertexType>(naturalOrder())
+    }
+}
+
+/**
+ * Descriptors are handled in order of priority of their RSM states
+ * @param priority - the smaller value, the earlier descriptor is handled.
+ * By default descriptors in final states go first: they pop GSS nodes and so produce results sooner
+ */
+class RsmStatePrioritySchedulingPolicy<VertexType>(
+    priority: (RsmState) -> Int = { if (it.isFinal) 0 else 1 }
+) : PrioritySchedulingPolicy<VertexType>(compareBy { priority(it.rsmState) })
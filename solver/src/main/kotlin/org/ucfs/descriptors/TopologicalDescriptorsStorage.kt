@@ -0,0 +1,60 @@
+package org.ucfs.descriptors
+
+import java.util.TreeMap
+
+/**
+ * Collection of descriptors for acyclic inputs. Descriptors are handled in topological order of their input
+ * positions: parser never returns to passed position, so handled descriptors of the position are dropped
+ * as soon as there are no more descriptors to handle in it
+ * @param VertexType - type of vertex in input graph
+ * @param order - index of vertex in topological order of input graph
+ * @param onRelease - called for each passed position, e.g. to drop other parser state for it
+ */
+class TopologicalDescriptorsStorage<VertexType>(
+    private val order: (VertexType) -> Int,
+    private val onRelease: (VertexType) -> Unit = {}
+) : IDescriptorsStorage<VertexType> {
+    private class Position<VertexType>(val vertex: VertexType) {
+        val handled = HashSet<Descriptor<VertexType>>()
+        val toHandle = ArrayDeque<Descriptor<VertexType>>()
+    }
+
+    private val positions = TreeMap<Int, Position<VertexType>>()
+
+    private fun getPosition(vertex: VertexType): Position<VertexType> {
+        return positions.getOrPut(order(vertex)) { Position(vertex) }
+    }
+
+    /**
+     * Count of positions with not released descriptors
+     */
+    val frontierSize: Int
+        get() = positions.size
+
+    override fun addToHandled(descriptor: Descriptor<VertexType>) {
+        getPosition(descriptor.inputPosition).handled.add(descriptor)
+    }
+
+    override fun add(descriptor: Descriptor<VertexType>) {
+        val position = getPosition(descriptor.inputPosition)
+        if (!position.handled.contains(descriptor)) {
+            position.toHandle.addLast(descriptor)
+        }
+    }
+
+    override fun nextToHandle(): Descriptor<VertexType>? {
+        while (positions.isNotEmpty()) {
+            val position = positions.firstEntry().value
+            while (position.toHandle.isNotEmpty()) {
+                val descriptor = position.toHandle.removeLast()
+                if (!position.handled.contains(descriptor)) {
+                    return descriptor
+                }
+            }
+            // descriptors are never added to position behind the first one
+            positions.pollFirstEntry()
+            onRelease(position.vertex)
+        }
+        return null
+    }
+}
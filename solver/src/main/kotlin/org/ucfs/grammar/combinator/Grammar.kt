@@ -1,6 +1,7 @@
 package org.ucfs.grammar.combinator
 
 import org.ucfs.grammar.combinator.regexp.Nt
+import org.ucfs.rsm.FirstSets
 import org.ucfs.rsm.RsmState
 
 
@@ -24,6 +25,11 @@ open class Grammar {
             return _rsm!!
         }
 
+    /**
+     * FIRST sets of all states of [rsm], used for lookahead in parsing
+     */
+    val firstSets: FirstSets by lazy { FirstSets.compute(rsm) }
+
     fun Nt.asStart(): Nt {
         if (this@Grammar::startNt.isInitialized) {
             throw Exception("Nonterminal ${nonterm.name} is already initialized")
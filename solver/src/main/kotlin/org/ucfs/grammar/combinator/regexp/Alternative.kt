@@ -1,33 +1,143 @@
 package org.ucfs.grammar.combinator.regexp
 
-import org.ucfs.rsm.symbol.Term
-
-
+/**
+ * Alternatives are compared as sets of operands of nested alternatives,
+ * so order and grouping of operands don't matter: (a | b) | c == c | (b | a)
+ */
 data class Alternative(
     val left: Regexp,
     val right: Regexp,
 ) : Regexp {
+    /**
+     * Distinct operands of all nested alternatives, none of them is alternative itself
+     */
+    internal val operands: AlternativeOperands = AlternativeOperands.union(left, right)
+
+    internal val isNullable = left.acceptEpsilon() || right.acceptEpsilon()
+
+    private val derivatives = Derivatives()
+
+    // doesn't depend on order of operands
+    override fun hashCode(): Int = operands.hash
+
+    override fun equals(other: Any?): Boolean {
+        if (this === other) return true
+        return other is Alternative && operands.hash == other.operands.hash && operands.size == other.operands.size
+                && operands.containsAll(other.operands)
+    }
+
     companion object {
+        /**
+         * @return true if each operand of [other] is operand of [regexp]
+         */
+        private fun covers(regexp: Regexp, other: Regexp): Boolean = when {
+            other is Alternative -> if (regexp is Alternative) {
+                regexp.operands.containsAll(other.operands)
+            } else {
+                other.operands.size == 1 && regexp in other.operands
+            }
+
+            regexp is Alternative -> other in regexp.operands
+            else -> regexp == other
+        }
+
         fun makeAlternative(left: Regexp, right: Regexp): Regexp {
             if (left is Empty) return right
             if (right is Empty) return left
 
-            if (left is Alternative && (right == left.left || right == left.right)) {
+            if (covers(left, right)) {
                 return left
             }
-            if (right is Alternative && (left == right.left || left == right.right)) {
+            if (covers(right, left)) {
                 return right
             }
-            return if (left == right) left else Alternative(left, right)
+            return Alternative(left, right)
         }
     }
 
-    override fun derive(symbol: DerivedSymbol): Regexp {
-        return makeAlternative(left.derive(symbol), right.derive(symbol))
+    override fun derive(symbol: DerivedSymbol): Regexp = derivatives.getOrPut(symbol) {
+        makeAlternative(left.derive(symbol), right.derive(symbol))
+    }
+
+}
+
+/**
+ * Set of operands of alternative, which shares storage with operands of its larger child: operands are appended
+ * to the storage, and each set sees only the first [size] of them. So chain of n alternatives keeps O(n) operands
+ * instead of O(n^2), storage is copied only when a set, which isn't the last one in its storage, is extended.
+ * Like [Derivatives], it isn't thread-safe
+ */
+internal class AlternativeOperands private constructor(
+    private val storage: Storage,
+    val size: Int,
+    /**
+     * Sum of hashes of operands, doesn't depend on their order
+     */
+    val hash: Int
+) {
+    private class Storage {
+        val operands = ArrayList<Regexp>()
+        val indexes = HashMap<Regexp, Int>()
+
+        fun add(operand: Regexp): Boolean {
+            if (operand in indexes) return false
+            indexes[operand] = operands.size
+            operands.add(operand)
+            return true
+        }
     }
 
+    operator fun contains(operand: Regexp): Boolean {
+        val index = storage.indexes[operand] ?: return false
+        return index < size
+    }
+
+    fun containsAll(other: AlternativeOperands): Boolean {
+        if (other.size > size) return false
+        for (i in 0 until other.size) {
+            if (other.storage.operands[i] !in this) return false
+        }
+        return true
+    }
+
+    private fun plus(added: List<Regexp>): AlternativeOperands {
+        val target = if (storage.operands.size == size) {
+            storage
+        } else {
+            Storage().also { copy -> storage.operands.subList(0, size).forEach { copy.add(it) } }
+        }
+        var newSize = size
+        var newHash = hash
+        for (operand in added) {
+            if (target.add(operand)) {
+                newSize++
+                newHash += operand.hashCode()
+            }
+        }
+        return AlternativeOperands(target, newSize, newHash)
+    }
+
+    companion object {
+        private fun getOperands(regexp: Regexp): List<Regexp> =
+            if (regexp is Alternative) regexp.operands.storage.operands.subList(0, regexp.operands.size)
+            else listOf(regexp)
+
+        fun union(left: Regexp, right: Regexp): AlternativeOperands {
+            val leftOperands = (left as? Alternative)?.operands
+            val rightOperands = (right as? Alternative)?.operands
+            return when {
+                leftOperands == null && rightOperands == null ->
+                    AlternativeOperands(Storage(), 0, 0).plus(listOf(left, right))
+
+                rightOperands == null || leftOperands != null && leftOperands.size >= rightOperands.size ->
+                    leftOperands!!.plus(getOperands(right))
+
+                else -> rightOperands.plus(getOperands(left))
+            }
+        }
+    }
 }
 
 infix fun Regexp.or(other: Regexp): Regexp = Alternative.makeAlternative(left = this, other)
 
-fun Option(exp: Regexp) = Alternative.makeAlternative(Epsilon, exp)
\ No newline at end of file
+fun Option(exp: Regexp) = Alternative.makeAlternative(Epsilon, exp)
@@ -4,21 +4,34 @@ data class Concat(
     val head: Regexp,
     val tail: Regexp,
 ) : Regexp {
+    internal val isNullable = head.acceptEpsilon() && tail.acceptEpsilon()
+
+    // expressions are compared as keys of RSM states, so hash isn't recomputed for whole tree
+    private val hash = 31 * head.hashCode() + tail.hashCode()
+
+    private val derivatives = Derivatives()
+
+    override fun hashCode(): Int = hash
+
+    override fun equals(other: Any?): Boolean {
+        if (this === other) return true
+        return other is Concat && hash == other.hash && head == other.head && tail == other.tail
+    }
 
     /*
     D[s](h.t) = acceptEps(h).D[s](t) | D[s](h).t
      */
-    override fun derive(symbol: DerivedSymbol): Regexp {
+    override fun derive(symbol: DerivedSymbol): Regexp = derivatives.getOrPut(symbol) {
         val newHead = head.derive(symbol)
 
         if (!head.acceptEpsilon()) {
-            return when (newHead) {
+            return@getOrPut when (newHead) {
                 Empty -> Empty
                 Epsilon -> tail
                 else -> Concat(newHead, tail)
             }
         }
-        return when (newHead) {
+        when (newHead) {
             Empty -> tail.derive(symbol)
             Epsilon -> Alternative.makeAlternative(tail, tail.derive(symbol))
             else -> Alternative.makeAlternative(Concat(newHead, tail), tail.derive(symbol))
@@ -26,4 +39,4 @@ data class Concat(
     }
 }
 
-infix operator fun Regexp.times(other: Regexp): Concat = Concat(head = this, other)
\ No newline at end of file
+infix operator fun Regexp.times(other: Regexp): Concat = Concat(head = this, other)
@@ -3,13 +3,22 @@ package org.ucfs.grammar.combinator.regexp
 data class Many(
     val exp: Regexp,
 ) : Regexp {
-    override fun derive(symbol: DerivedSymbol): Regexp {
-        val newReg = exp.derive(symbol)
+    private val hash = 31 * exp.hashCode() + 1
 
-        return when (newReg) {
-            Epsilon -> Many(exp)
+    private val derivatives = Derivatives()
+
+    override fun hashCode(): Int = hash
+
+    override fun equals(other: Any?): Boolean {
+        if (this === other) return true
+        return other is Many && hash == other.hash && exp == other.exp
+    }
+
+    override fun derive(symbol: DerivedSymbol): Regexp = derivatives.getOrPut(symbol) {
+        when (val newReg = exp.derive(symbol)) {
+            Epsilon -> this
             Empty -> Empty
-            else -> Concat(newReg, Many(exp))
+            else -> Concat(newReg, this)
         }
     }
 }
@@ -20,4 +29,4 @@ fun many(some: Regexp): Many {
 val Regexp.many: Many
     get() = Many(this)
 
-fun some(exp: Regexp) = exp * Many(exp)
\ No newline at end of file
+fun some(exp: Regexp) = exp * Many(exp)
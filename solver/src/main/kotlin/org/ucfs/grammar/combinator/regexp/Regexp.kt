@@ -15,21 +15,47 @@ sealed interface Regexp {
             is Empty -> false
             is Epsilon -> true
             is DerivedSymbol -> false
-            is Concat -> head.acceptEpsilon() && tail.acceptEpsilon()
-            is Alternative -> left.acceptEpsilon() || right.acceptEpsilon()
+            is Concat -> isNullable
+            is Alternative -> isNullable
             is Many -> true
         }
     }
 
     fun getAlphabet(): Set<DerivedSymbol> {
-        return when (this) {
-            is Empty -> emptySet()
-            is Epsilon -> emptySet()
-            is DerivedSymbol -> setOf(this)
-            is Concat -> head.getAlphabet() + tail.getAlphabet()
-            is Alternative -> left.getAlphabet() + right.getAlphabet()
-            is Many -> exp.getAlphabet()
+        val alphabet = LinkedHashSet<DerivedSymbol>()
+        collectAlphabet(this, alphabet)
+        return alphabet
+    }
+}
+
+private fun collectAlphabet(regexp: Regexp, alphabet: MutableSet<DerivedSymbol>) {
+    when (regexp) {
+        is Empty, is Epsilon -> {}
+        is DerivedSymbol -> alphabet.add(regexp)
+        is Concat -> {
+            collectAlphabet(regexp.head, alphabet)
+            collectAlphabet(regexp.tail, alphabet)
         }
+
+        is Alternative -> {
+            collectAlphabet(regexp.left, alphabet)
+            collectAlphabet(regexp.right, alphabet)
+        }
+
+        is Many -> collectAlphabet(regexp.exp, alphabet)
+    }
+}
+
+/**
+ * Derivatives of composite expression, computed once for each symbol.
+ * Derivatives reuse subexpressions, so the same cache is hit from all states of RSM box containing them
+ */
+internal class Derivatives {
+    private var cache: HashMap<DerivedSymbol, Regexp>? = null
+
+    inline fun getOrPut(symbol: DerivedSymbol, derive: () -> Regexp): Regexp {
+        val derivatives = cache ?: HashMap<DerivedSymbol, Regexp>().also { cache = it }
+        return derivatives[symbol] ?: derive().also { derivatives[symbol] = it }
     }
 }
 
@@ -43,4 +69,3 @@ data object Epsilon : Regexp {
 data object Empty : Regexp {
     override fun derive(symbol: DerivedSymbol): Regexp = this
 }
-
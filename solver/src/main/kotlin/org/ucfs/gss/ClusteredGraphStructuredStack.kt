@@ -0,0 +1,16 @@
+package org.ucfs.gss
+
+/**
+ * Graph Structured Stack of Clustered Nonterminal Parsing ("Structuring the GLL parsing algorithm for performance",
+ * Elizabeth Scott, Adrian Johnstone). Nodes of [GraphStructuredStack] already are CNP clusters: each nonterminal
+ * has single start state, so node (start state, input position) is the cluster of all calls of nonterminal there.
+ * This stack adds CNP rule for pops, grouped by right extent: callers are continued from the end of nonterminal
+ * only once, next derivations with the same end are only attached to derivation trees of these continuations.
+ * Derivation trees are the same as with default stack, but their nodes are created in other order
+ * @param InputNode - type of vertex in input graph
+ */
+class ClusteredGraphStructuredStack<InputNode> : GraphStructuredStack<InputNode>() {
+    override fun isPoppedEnd(gssNode: GssNode<InputNode>, end: InputNode): Boolean {
+        return gssNode.popped.byEnd.containsKey(end)
+    }
+}
@@ -0,0 +1,49 @@
+package org.ucfs.gss
+
+import org.ucfs.descriptors.Descriptor
+import org.ucfs.rsm.RsmState
+import org.ucfs.sppf.node.RangeSppfNode
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * Thread-safe Graph Structured Stack.
+ * Adding an edge and popping from the same node are serialized on the node, so each pair of
+ * edge and popped range is seen by at least one of two threads
+ */
+class ConcurrentGraphStructuredStack<InputNode> : IGraphStructuredStack<InputNode> {
+    val nodes = ConcurrentHashMap<GssNode<InputNode>, GssNode<InputNode>>()
+
+    override val size: Int
+        get() = nodes.size
+
+    override fun getNodes(): Collection<GssNode<InputNode>> = nodes.values
+
+    override fun getOrCreateNode(input: InputNode, rsm: RsmState): GssNode<InputNode> {
+        val node = GssNode(rsm, input)
+        return nodes.putIfAbsent(node, node) ?: node
+    }
+
+    override fun addEdge(
+        gssNode: GssNode<InputNode>,
+        rsmStateToReturn: RsmState,
+        inputToContinue: InputNode,
+        rsmStateToContinue: RsmState,
+        matcherRange: RangeSppfNode<InputNode>
+    ): GssResult<InputNode> {
+        val addedNode = getOrCreateNode(inputToContinue, rsmStateToContinue)
+        val edge = GssEdge(gssNode, rsmStateToReturn, matcherRange)
+        val popped = synchronized(addedNode) {
+            addedNode.addEdge(edge).copy()
+        }
+        return GssResult(addedNode, popped)
+    }
+
+    override fun pop(
+        descriptor: Descriptor<InputNode>, range: RangeSppfNode<InputNode>
+    ): List<GssEdge<InputNode>> {
+        val gssNode = descriptor.gssNode
+        return synchronized(gssNode) {
+            if (gssNode.popped.add(range)) ArrayList(gssNode.outgoingEdges) else emptyList()
+        }
+    }
+}
@@ -1,52 +1,23 @@
 package org.ucfs.gss
 
-import org.ucfs.descriptors.Descriptor
 import org.ucfs.rsm.RsmState
-import org.ucfs.sppf.node.RangeSppfNode
 
-class GraphStructuredStack<InputNode> {
+open class GraphStructuredStack<InputNode> : IGraphStructuredStack<InputNode> {
     val nodes = HashMap<GssNode<InputNode>, GssNode<InputNode>>()
 
-    fun getOrCreateNode(input: InputNode, rsm: RsmState): GssNode<InputNode> {
-        val node = GssNode(rsm, input)
-        return nodes.getOrPut(node, {node})
-    }
-
-    fun addEdge(
-        gssNode: GssNode<InputNode>,
-        rsmStateToReturn: RsmState,
-        inputToContinue: InputNode,
-        rsmStateToContinue: RsmState,
-        matcherRange: RangeSppfNode<InputNode>
-    ): GssResult<InputNode> {
-        val addedNode = getOrCreateNode(inputToContinue, rsmStateToContinue)
-        val edge = GssEdge(gssNode, rsmStateToReturn, matcherRange)
-
-
-        // There is no need to check GSS edges duplication.
-        // "Faster, Practical GLL Parsing", Ali Afroozeh and Anastasia Izmaylova
-        // p.13: "There is at most one call to the create function with the same arguments.
-        // Thus no check for duplicate GSS edges is needed."
-        val popped = addedNode.addEdge(edge)
-        return GssResult(addedNode, popped)
-    }
+    override val size: Int
+        get() = nodes.size
 
+    override fun getNodes(): Collection<GssNode<InputNode>> = nodes.values
 
-    /**
-     * return outgoing edges
-     */
-    fun pop(
-        descriptor: Descriptor<InputNode>, range: RangeSppfNode<InputNode>
-    ): ArrayList<GssEdge<InputNode>> {
-        val gssNode = descriptor.gssNode
-        gssNode.popped.add(range)
-        return gssNode.outgoingEdges
+    override fun getOrCreateNode(input: InputNode, rsm: RsmState): GssNode<InputNode> {
+        val node = GssNode(rsm, input)
+        return nodes.getOrPut(node, {node})
     }
-
 }
 
 data class GssResult<InputNodeType>(
-    val gssNode: GssNode<InputNodeType>, val popped: ArrayList<RangeSppfNode<InputNodeType>>
+    val gssNode: GssNode<InputNodeType>, val popped: PoppedRanges<InputNodeType>
 )
 
 
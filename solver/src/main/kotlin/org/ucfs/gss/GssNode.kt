@@ -2,14 +2,14 @@ package org.ucfs.gss
 
 import org.ucfs.rsm.RsmState
 import org.ucfs.sppf.node.RangeSppfNode
-import java.util.*
-import kotlin.collections.ArrayList
+import java.util.concurrent.atomic.AtomicInteger
 
 /**
  * Node in Graph Structured Stack
  * @param InputNodeType - type of vertex in input graph
  */
-var lastId = 0
+// nodes may be created concurrently by ConcurrentGraphStructuredStack
+val lastId = AtomicInteger()
 
 data class GssNode<InputNodeType>(
     /**
@@ -22,17 +22,38 @@ data class GssNode<InputNodeType>(
     val inputPosition: InputNodeType,
 
 ) {
-    val id: Int = lastId++
-    val popped = ArrayList<RangeSppfNode<InputNodeType>>()
+    val id: Int = lastId.getAndIncrement()
+    val popped = PoppedRanges<InputNodeType>()
 
-    val outgoingEdges = ArrayList<GssEdge<InputNodeType>>()
+    /**
+     * List of edges is created with the first edge, stacks storing edges elsewhere leave it empty
+     */
+    private var edges: ArrayList<GssEdge<InputNodeType>>? = null
+
+    val outgoingEdges: List<GssEdge<InputNodeType>>
+        get() = edges ?: emptyList()
+
+    /**
+     * Handle of node in stack, which refers to nodes by dense int handles, -1 in other stacks
+     */
+    internal var handle = -1
+
+    /**
+     * Derivation tree of empty string for nullable nonterminal, created on the first pop with empty range
+     */
+    var epsilonNode: RangeSppfNode<InputNodeType>? = null
 
     /**
      * Add edge and return popped
      */
-    fun addEdge(edge: GssEdge<InputNodeType>): ArrayList<RangeSppfNode<InputNodeType>> {
-        outgoingEdges.add(edge)
+    fun addEdge(edge: GssEdge<InputNodeType>): PoppedRanges<InputNodeType> {
+        val edges = edges ?: ArrayList<GssEdge<InputNodeType>>(1).also { edges = it }
+        edges.add(edge)
         return popped
     }
 
+    fun removeEdges(predicate: (GssEdge<InputNodeType>) -> Boolean) {
+        edges?.removeIf(predicate)
+    }
+
 }
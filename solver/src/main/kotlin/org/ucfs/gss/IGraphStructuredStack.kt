@@ -0,0 +1,68 @@
+package org.ucfs.gss
+
+import org.ucfs.descriptors.Descriptor
+import org.ucfs.rsm.RsmState
+import org.ucfs.sppf.node.RangeSppfNode
+
+/**
+ * Graph Structured Stack interface
+ * @param InputNode - type of vertex in input graph
+ */
+interface IGraphStructuredStack<InputNode> {
+    /**
+     * Count of nodes, created by this stack
+     */
+    val size: Int
+
+    /**
+     * @return nodes, which can still be found by [getOrCreateNode]
+     */
+    fun getNodes(): Collection<GssNode<InputNode>>
+
+    /**
+     * @return node for given input position and starting RSM state, new one if there is no such node yet
+     */
+    fun getOrCreateNode(input: InputNode, rsm: RsmState): GssNode<InputNode>
+
+    /**
+     * Adds edge from node (inputToContinue, rsmStateToContinue) to given gssNode
+     * @return target node of the call and ranges, already popped from it
+     */
+    fun addEdge(
+        gssNode: GssNode<InputNode>,
+        rsmStateToReturn: RsmState,
+        inputToContinue: InputNode,
+        rsmStateToContinue: RsmState,
+        matcherRange: RangeSppfNode<InputNode>
+    ): GssResult<InputNode> {
+        val addedNode = getOrCreateNode(inputToContinue, rsmStateToContinue)
+        val edge = GssEdge(gssNode, rsmStateToReturn, matcherRange)
+
+
+        // There is no need to check GSS edges duplication.
+        // "Faster, Practical GLL Parsing", Ali Afroozeh and Anastasia Izmaylova
+        // p.13: "There is at most one call to the create function with the same arguments.
+        // Thus no check for duplicate GSS edges is needed."
+        val popped = addedNode.addEdge(edge)
+        return GssResult(addedNode, popped)
+    }
+
+    /**
+     * Saves popped range in descriptor's GSS node
+     * @return outgoing edges of the node, empty if the range was already popped from it:
+     * they were continued with it
+     */
+    fun pop(descriptor: Descriptor<InputNode>, range: RangeSppfNode<InputNode>): List<GssEdge<InputNode>> {
+        val gssNode = descriptor.gssNode
+        if (!gssNode.popped.add(range)) {
+            return emptyList()
+        }
+        return gssNode.outgoingEdges
+    }
+
+    /**
+     * @return true if range with given end was already popped from the node, so its callers were continued from
+     * the end, and only derivation tree of next popped range should be attached to them
+     */
+    fun isPoppedEnd(gssNode: GssNode<InputNode>, end: InputNode): Boolean = false
+}
@@ -0,0 +1,105 @@
+package org.ucfs.gss
+
+import org.ucfs.rsm.RsmState
+import org.ucfs.utils.DenseIdMap
+
+/**
+ * Graph Structured Stack, which finds nodes by primitive key (vertex id, RSM state id) in open-addressing table,
+ * so no node is created just to be compared with existing one. New nodes are created only for missing keys.
+ * @param InputNode - type of vertex in input graph
+ * @param vertexIds - dense ids of input vertices, may be shared with other structures for the same input
+ */
+open class InternedGraphStructuredStack<InputNode>(
+    private val vertexIds: DenseIdMap<InputNode> = DenseIdMap()
+) : IGraphStructuredStack<InputNode> {
+    protected val stateIds = DenseIdMap<RsmState>(identity = true)
+
+    private var keys = LongArray(INITIAL_CAPACITY)
+
+    private var handles = IntArray(INITIAL_CAPACITY)
+
+    /**
+     * Created nodes, index of node is its handle
+     */
+    protected val nodesByHandle = ArrayList<GssNode<InputNode>>()
+
+    override val size: Int
+        get() = nodesByHandle.size
+
+    override fun getNodes(): Collection<GssNode<InputNode>> = nodesByHandle
+
+    override fun getOrCreateNode(input: InputNode, rsm: RsmState): GssNode<InputNode> {
+        return nodesByHandle[getHandle(input, rsm)]
+    }
+
+    /**
+     * @return handle of node, stored in the node, if it was created by this stack
+     */
+    protected fun getHandle(node: GssNode<InputNode>): Int {
+        val handle = node.handle
+        if (handle in 0 until nodesByHandle.size && nodesByHandle[handle] === node) {
+            return handle
+        }
+        return getHandle(node.inputPosition, node.rsm)
+    }
+
+    /**
+     * @return dense handle of node for given input position and starting RSM state, node is created if it is missing
+     */
+    protected fun getHandle(input: InputNode, rsm: RsmState): Int {
+        // ids are shifted, so zero key marks empty slot
+        val key = (vertexIds.getId(input).toLong() shl 32) or (stateIds.getId(rsm) + 1).toLong()
+        val mask = keys.size - 1
+        var slot = getHash(key) and mask
+        while (true) {
+            val slotKey = keys[slot]
+            if (slotKey == key) {
+                return handles[slot]
+            }
+            if (slotKey == 0L) {
+                break
+            }
+            slot = (slot + 1) and mask
+        }
+        val handle = nodesByHandle.size
+        val node = GssNode(rsm, input)
+        node.handle = handle
+        nodesByHandle.add(node)
+        keys[slot] = key
+        handles[slot] = handle
+        if (nodesByHandle.size * 2 > keys.size) {
+            grow()
+        }
+        return handle
+    }
+
+    private fun grow() {
+        val oldKeys = keys
+        val oldHandles = handles
+        keys = LongArray(oldKeys.size * 2)
+        handles = IntArray(oldKeys.size * 2)
+        val mask = keys.size - 1
+        for (i in oldKeys.indices) {
+            val key = oldKeys[i]
+            if (key == 0L) continue
+            var slot = getHash(key) and mask
+            while (keys[slot] != 0L) {
+                slot = (slot + 1) and mask
+            }
+            keys[slot] = key
+            handles[slot] = oldHandles[i]
+        }
+    }
+
+    private fun getHash(key: Long): Int {
+        // mixing step of MurmurHash3, so sequential vertex ids don't form long probe chains
+        var hash = key xor (key ushr 33)
+        hash *= -0xae502812aa7333L
+        hash = hash xor (hash ushr 33)
+        return hash.toInt()
+    }
+
+    companion object {
+        private const val INITIAL_CAPACITY = 64
+    }
+}
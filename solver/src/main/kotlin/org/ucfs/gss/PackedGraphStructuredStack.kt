@@ -0,0 +1,84 @@
+package org.ucfs.gss
+
+import org.ucfs.descriptors.Descriptor
+import org.ucfs.rsm.RsmState
+import org.ucfs.sppf.node.RangeSppfNode
+import org.ucfs.utils.DenseIdMap
+import org.ucfs.utils.IntSegments
+import org.ucfs.utils.ObjectSegments
+
+/**
+ * Graph Structured Stack for huge inputs, which stores edges in primitive segments instead of [GssEdge] objects:
+ * edge is an int handle, and each node has chain of its outgoing edges. Nodes are referred by int handles
+ * of [InternedGraphStructuredStack], RSM states by dense ids. [GssEdge] objects are created only for pop
+ * and aren't kept, so long-lived heap holds few large arrays instead of object per edge.
+ * [GssNode.outgoingEdges] stay empty and aren't allocated, handle of caller is read from the node
+ * @param InputNode - type of vertex in input graph
+ * @param vertexIds - dense ids of input vertices, may be shared with other structures for the same input
+ */
+class PackedGraphStructuredStack<InputNode>(
+    vertexIds: DenseIdMap<InputNode> = DenseIdMap()
+) : InternedGraphStructuredStack<InputNode>(vertexIds) {
+    /**
+     * Last added edge of node by handle of node, -1 if node has no edges
+     */
+    private val lastEdges = IntSegments()
+
+    private val edgeCallers = IntSegments()
+
+    private val edgeStates = IntSegments()
+
+    private val edgeRanges = ObjectSegments<RangeSppfNode<InputNode>>()
+
+    /**
+     * Previous edge of the same node, -1 for the first one
+     */
+    private val previousEdges = IntSegments()
+
+    /**
+     * Count of added edges
+     */
+    val edgesCount: Int
+        get() = edgeCallers.size
+
+    override fun addEdge(
+        gssNode: GssNode<InputNode>,
+        rsmStateToReturn: RsmState,
+        inputToContinue: InputNode,
+        rsmStateToContinue: RsmState,
+        matcherRange: RangeSppfNode<InputNode>
+    ): GssResult<InputNode> {
+        val addedHandle = getHandle(inputToContinue, rsmStateToContinue)
+        while (lastEdges.size <= addedHandle) {
+            lastEdges.add(-1)
+        }
+        // as in default GSS, there is at most one call with the same arguments, so edges aren't checked for duplicates
+        val edge = edgeCallers.add(getHandle(gssNode))
+        edgeStates.add(stateIds.getId(rsmStateToReturn))
+        edgeRanges.add(matcherRange)
+        previousEdges.add(lastEdges[addedHandle])
+        lastEdges[addedHandle] = edge
+        val addedNode = nodesByHandle[addedHandle]
+        return GssResult(addedNode, addedNode.popped)
+    }
+
+    override fun pop(
+        descriptor: Descriptor<InputNode>, range: RangeSppfNode<InputNode>
+    ): List<GssEdge<InputNode>> {
+        val gssNode = descriptor.gssNode
+        if (!gssNode.popped.add(range)) {
+            return emptyList()
+        }
+        val handle = getHandle(gssNode)
+        if (handle >= lastEdges.size) {
+            return emptyList()
+        }
+        val edges = ArrayList<GssEdge<InputNode>>()
+        var edge = lastEdges[handle]
+        while (edge != -1) {
+            edges.add(GssEdge(nodesByHandle[edgeCallers[edge]], stateIds[edgeStates[edge]], edgeRanges[edge]))
+            edge = previousEdges[edge]
+        }
+        return edges
+    }
+}
@@ -0,0 +1,53 @@
+package org.ucfs.gss
+
+import org.ucfs.sppf.node.RangeSppfNode
+
+/**
+ * Ranges popped from GSS node, grouped by right end of input range. Each range is stored once.
+ * Map is created with the first popped range, most of nodes are never popped
+ * @param InputNode - type of vertex in input graph
+ */
+class PoppedRanges<InputNode> {
+    private var rangesByEnd: LinkedHashMap<InputNode, ArrayList<RangeSppfNode<InputNode>>>? = null
+
+    /**
+     * Distinct right ends in order of the first pop, with all ranges popped up to each of them
+     */
+    val byEnd: Map<InputNode, List<RangeSppfNode<InputNode>>>
+        get() = rangesByEnd ?: emptyMap()
+
+    /**
+     * @return false if the range was already popped
+     */
+    fun add(range: RangeSppfNode<InputNode>): Boolean {
+        val rangesByEnd = rangesByEnd ?: LinkedHashMap<InputNode, ArrayList<RangeSppfNode<InputNode>>>().also {
+            rangesByEnd = it
+        }
+        val ranges = rangesByEnd.getOrPut(range.inputRange!!.to) { ArrayList(1) }
+        if (ranges.contains(range)) {
+            return false
+        }
+        ranges.add(range)
+        return true
+    }
+
+    fun remove(range: RangeSppfNode<InputNode>) {
+        val end = range.inputRange!!.to
+        val ranges = rangesByEnd?.get(end) ?: return
+        ranges.remove(range)
+        if (ranges.isEmpty()) {
+            rangesByEnd?.remove(end)
+        }
+    }
+
+    /**
+     * @return independent copy, e.g. to be read without lock
+     */
+    fun copy(): PoppedRanges<InputNode> {
+        val copy = PoppedRanges<InputNode>()
+        rangesByEnd?.let { ranges ->
+            copy.rangesByEnd = ranges.mapValuesTo(LinkedHashMap()) { ArrayList(it.value) }
+        }
+        return copy
+    }
+}
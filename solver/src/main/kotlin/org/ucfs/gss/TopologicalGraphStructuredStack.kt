@@ -0,0 +1,35 @@
+package org.ucfs.gss
+
+import org.ucfs.rsm.RsmState
+
+/**
+ * Graph Structured Stack for acyclic inputs, which are handled in topological order.
+ * Nodes are searched by input position first, so all nodes of passed position can be forgotten at once:
+ * new nodes are created only at current position. Already created nodes are still reachable via GSS edges
+ * @param InputNode - type of vertex in input graph
+ */
+class TopologicalGraphStructuredStack<InputNode> : IGraphStructuredStack<InputNode> {
+    private val nodesByPosition = HashMap<InputNode, HashMap<RsmState, GssNode<InputNode>>>()
+
+    override var size = 0
+        private set
+
+    /**
+     * @return nodes at positions, which aren't released yet
+     */
+    override fun getNodes(): Collection<GssNode<InputNode>> = nodesByPosition.values.flatMap { it.values }
+
+    override fun getOrCreateNode(input: InputNode, rsm: RsmState): GssNode<InputNode> {
+        return nodesByPosition.getOrPut(input) { HashMap() }.getOrPut(rsm) {
+            size++
+            GssNode(rsm, input)
+        }
+    }
+
+    /**
+     * Forgets nodes at given input position, no more nodes will be created there
+     */
+    fun release(input: InputNode) {
+        nodesByPosition.remove(input)
+    }
+}
@@ -1,5 +1,7 @@
 package org.ucfs.input
 
+import org.ucfs.rsm.symbol.ITerminal
+
 /**
  * Input graph interface
  * @param VertexType - type of vertex in input graph
@@ -29,7 +31,24 @@ interface IInputGraph<VertexType, LabelType : ILabel> {
      * @param from - vertex to retrieve outgoing edges from
      * @return Collection of outgoing edges
      */
-    fun getEdges(from: VertexType): MutableList<Edge<VertexType, LabelType>>
+    fun getEdges(from: VertexType): List<Edge<VertexType, LabelType>>
+
+    /**
+     * Returns outgoing edges from given vertex with given terminal on label.
+     * By default filters all outgoing edges, see [isIndexedByTerminal]
+     * @param from - vertex to retrieve outgoing edges from
+     * @param terminal - terminal on edges
+     * @return Collection of outgoing edges with given terminal
+     */
+    fun getEdges(from: VertexType, terminal: ITerminal): List<Edge<VertexType, LabelType>> {
+        return getEdges(from).filter { it.label.terminal == terminal }
+    }
+
+    /**
+     * True if [getEdges] by terminal doesn't iterate over all outgoing edges
+     */
+    val isIndexedByTerminal: Boolean
+        get() = false
 
     /**
      * Adds edge to graph
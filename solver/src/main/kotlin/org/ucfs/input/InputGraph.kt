@@ -1,15 +1,29 @@
 package org.ucfs.input
 
+import org.ucfs.rsm.symbol.ITerminal
+
 open class InputGraph<VertexType, LabelType : ILabel> : IInputGraph<VertexType, LabelType> {
 
     var name = "G"
 
     val vertices: MutableSet<VertexType> = HashSet()
 
-    val edges: MutableMap<VertexType, MutableList<Edge<VertexType, LabelType>>> = HashMap()
+    private val outgoingEdges: MutableMap<VertexType, MutableList<Edge<VertexType, LabelType>>> = HashMap()
+
+    /**
+     * Outgoing edges of vertices, read-only: edges are changed only by [addEdge] and [removeEdge],
+     * which keep index of edges by terminals up to date
+     */
+    val edges: Map<VertexType, List<Edge<VertexType, LabelType>>>
+        get() = outgoingEdges
 
     val startVertices: MutableSet<VertexType> = HashSet()
 
+    /**
+     * Outgoing edges grouped by terminals, built for vertex on the first request
+     */
+    private val edgesByTerminal: MutableMap<VertexType, Map<ITerminal?, List<Edge<VertexType, LabelType>>>> = HashMap()
+
     override fun getInputStartVertices(): MutableSet<VertexType> {
         return startVertices
     }
@@ -28,22 +42,32 @@ open class InputGraph<VertexType, LabelType : ILabel> : IInputGraph<VertexType,
         vertices.remove(vertex)
     }
 
-    override fun getEdges(from: VertexType): MutableList<Edge<VertexType, LabelType>> {
-        return edges.getOrDefault(from, ArrayList())
+    override fun getEdges(from: VertexType): List<Edge<VertexType, LabelType>> {
+        return outgoingEdges[from] ?: emptyList()
     }
 
+    override fun getEdges(from: VertexType, terminal: ITerminal): List<Edge<VertexType, LabelType>> {
+        val index = edgesByTerminal.getOrPut(from) { getEdges(from).groupBy { it.label.terminal } }
+        return index[terminal] ?: emptyList()
+    }
+
+    override val isIndexedByTerminal: Boolean
+        get() = true
+
     override fun addEdge(from: VertexType, label: LabelType, to: VertexType) {
         val edge = Edge(label, to)
+        edgesByTerminal.remove(from)
 
-        if (!edges.containsKey(from)) edges[from] = ArrayList()
+        if (!outgoingEdges.containsKey(from)) outgoingEdges[from] = ArrayList()
 
-        edges.getValue(from).add(edge)
+        outgoingEdges.getValue(from).add(edge)
     }
 
 
     override fun removeEdge(from: VertexType, label: LabelType, to: VertexType) {
         val edge = Edge(label, to)
-        edges.getValue(from).remove(edge)
+        edgesByTerminal.remove(from)
+        outgoingEdges.getValue(from).remove(edge)
     }
 
     override fun isStart(vertex: VertexType) = startVertices.contains(vertex)
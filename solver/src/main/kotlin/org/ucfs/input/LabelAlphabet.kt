@@ -0,0 +1,22 @@
+package org.ucfs.input
+
+import org.ucfs.rsm.symbol.ITerminal
+
+/**
+ * Collects terminals on edges, reachable from starting vertices
+ * @return set of terminals, which parser can read in this graph
+ */
+fun <VertexType, LabelType : ILabel> IInputGraph<VertexType, LabelType>.getLabelAlphabet(): Set<ITerminal> {
+    val alphabet = HashSet<ITerminal>()
+    val visited = HashSet(getInputStartVertices())
+    val queue = ArrayDeque(visited)
+    while (queue.isNotEmpty()) {
+        for (edge in getEdges(queue.removeFirst())) {
+            edge.label.terminal?.let { alphabet.add(it) }
+            if (visited.add(edge.targetVertex)) {
+                queue.addLast(edge.targetVertex)
+            }
+        }
+    }
+    return alphabet
+}
@@ -0,0 +1,41 @@
+package org.ucfs.input
+
+/**
+ * Orders vertices, reachable from starting ones, so that each edge goes from smaller index to greater one
+ * @return index of each vertex in topological order
+ * @throws IllegalArgumentException if graph has cycle
+ */
+fun <VertexType, LabelType : ILabel> IInputGraph<VertexType, LabelType>.getTopologicalOrder(): Map<VertexType, Int> {
+    val postOrder = ArrayList<VertexType>()
+    val onStack = HashSet<VertexType>()
+    val visited = HashSet<VertexType>()
+    for (start in getInputStartVertices()) {
+        if (!visited.add(start)) continue
+        onStack.add(start)
+        // pairs of vertex and index of its next edge to visit
+        val stack = ArrayDeque(listOf(start to 0))
+        while (stack.isNotEmpty()) {
+            val (vertex, edgeIndex) = stack.removeLast()
+            val edges = getEdges(vertex)
+            if (edgeIndex == edges.size) {
+                onStack.remove(vertex)
+                postOrder.add(vertex)
+                continue
+            }
+            stack.addLast(vertex to edgeIndex + 1)
+            val target = edges[edgeIndex].targetVertex
+            if (target in onStack) {
+                throw IllegalArgumentException("Input graph has cycle through vertex $target")
+            }
+            if (visited.add(target)) {
+                onStack.add(target)
+                stack.addLast(target to 0)
+            }
+        }
+    }
+    val order = HashMap<VertexType, Int>()
+    for ((index, vertex) in postOrder.asReversed().withIndex()) {
+        order[vertex] = index
+    }
+    return order
+}
@@ -0,0 +1,49 @@
+package org.ucfs.intersection
+
+import org.ucfs.descriptors.Descriptor
+import org.ucfs.input.ILabel
+import org.ucfs.parser.IGll
+import org.ucfs.rsm.CompiledRsm
+
+/**
+ * Intersection engine, which looks for RSM transitions in [CompiledRsm] arrays instead of [org.ucfs.rsm.RsmState]
+ * edge lists. Handles the same edges in the same way as [IntersectionEngine]
+ * @param rsm - compiled RSM of parsed grammar
+ */
+class CompiledIntersectionEngine(private val rsm: CompiledRsm) : IIntersectionEngine {
+    override fun <VertexType, LabelType : ILabel> handleEdges(
+        gll: IGll<VertexType, LabelType>,
+        descriptor: Descriptor<VertexType>,
+    ) {
+        val state = rsm.getId(descriptor.rsmState)
+        val input = gll.ctx.input
+        val inputEdges = input.getEdges(descriptor.inputPosition)
+        val terminalsStart = rsm.terminalOffsets[state]
+        val terminalsEnd = rsm.terminalOffsets[state + 1]
+
+        if (input.isIndexedByTerminal && terminalsEnd - terminalsStart < inputEdges.size) {
+            for (i in terminalsStart until terminalsEnd) {
+                val terminal = rsm.terminals[rsm.terminalLabels[i]]
+                val destination = rsm.states[rsm.terminalTargets[i]]
+                for (inputEdge in input.getEdges(descriptor.inputPosition, terminal)) {
+                    gll.handleTerminalEdge(descriptor, inputEdge, destination, terminal)
+                }
+            }
+        } else if (terminalsStart < terminalsEnd) {
+            for (inputEdge in inputEdges) {
+                val terminal = rsm.getTerminalId(inputEdge.label.terminal)
+                if (terminal < 0) continue
+                val destination = rsm.getTerminalTarget(state, terminal)
+                if (destination >= 0) {
+                    gll.handleTerminalEdge(descriptor, inputEdge, rsm.states[destination], rsm.terminals[terminal])
+                }
+            }
+        }
+
+        for (i in rsm.nonterminalOffsets[state] until rsm.nonterminalOffsets[state + 1]) {
+            gll.handleNonterminalEdge(
+                descriptor, rsm.states[rsm.nonterminalTargets[i]], rsm.nonterminals[rsm.nonterminalLabels[i]]
+            )
+        }
+    }
+}
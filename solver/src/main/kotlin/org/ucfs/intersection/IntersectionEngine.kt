@@ -20,15 +20,26 @@ object IntersectionEngine : IIntersectionEngine {
         descriptor: Descriptor<VertexType>,
     ) {
 
-        for (inputEdge in gll.ctx.input.getEdges(descriptor.inputPosition)) {
-            val inputTerminal = inputEdge.label.terminal
-            val rsmEdge = descriptor.rsmState.terminalEdgesStorage.find {
-                it.symbol == inputTerminal
+        val input = gll.ctx.input
+        val rsmState = descriptor.rsmState
+        val inputEdges = input.getEdges(descriptor.inputPosition)
+        if (input.isIndexedByTerminal && rsmState.terminalEdgesStorage.size < inputEdges.size) {
+            // join from the smaller side: RSM edges, each one looked up in input
+            for (rsmEdge in rsmState.terminalEdgesStorage) {
+                val terminal = rsmEdge.symbol as ITerminal
+                if (rsmState.getTerminalEdge(terminal) !== rsmEdge) continue
+                for (inputEdge in input.getEdges(descriptor.inputPosition, terminal)) {
+                    gll.handleTerminalEdge(descriptor, inputEdge, rsmEdge.destinationState, terminal)
+                }
             }
-            if (rsmEdge != null) {
-                gll.handleTerminalEdge(
-                    descriptor, inputEdge, rsmEdge.destinationState, rsmEdge.symbol as ITerminal
-                )
+        } else {
+            for (inputEdge in inputEdges) {
+                val rsmEdge = rsmState.getTerminalEdge(inputEdge.label.terminal)
+                if (rsmEdge != null) {
+                    gll.handleTerminalEdge(
+                        descriptor, inputEdge, rsmEdge.destinationState, rsmEdge.symbol as ITerminal
+                    )
+                }
             }
         }
 
@@ -1,13 +1,26 @@
 package org.ucfs.parser
 
 import org.ucfs.descriptors.Descriptor
+import org.ucfs.descriptors.DescriptorsStorage
+import org.ucfs.descriptors.IDescriptorsStorage
+import org.ucfs.descriptors.TopologicalDescriptorsStorage
+import org.ucfs.gss.GraphStructuredStack
 import org.ucfs.gss.GssEdge
+import org.ucfs.gss.IGraphStructuredStack
+import org.ucfs.gss.TopologicalGraphStructuredStack
 import org.ucfs.input.IInputGraph
 import org.ucfs.input.ILabel
+import org.ucfs.input.getTopologicalOrder
+import org.ucfs.intersection.CompiledIntersectionEngine
 import org.ucfs.intersection.IIntersectionEngine
 import org.ucfs.intersection.IntersectionEngine
 import org.ucfs.parser.context.Context
+import org.ucfs.rsm.CompiledRsm
+import org.ucfs.rsm.FirstSets
 import org.ucfs.rsm.RsmState
+import org.ucfs.sppf.RecognizerSppfStorage
+import org.ucfs.sppf.SppfStorage
+import org.ucfs.sppf.TopologicalSppfStorage
 import org.ucfs.sppf.node.*
 
 /**
@@ -21,38 +34,133 @@ class Gll<VertexType, LabelType : ILabel> private constructor(
 
     companion object {
         /**
-         * Creates instance of incremental Gll
+         * Creates instance of Gll, see [IncrementalGll] to keep it between changes of input graph
          * @param startState - starting state of accepting nonterminal in RSM
          * @param inputGraph - input graph
+         * @param descriptors - collection of descriptors, e.g. [DescriptorsStorage] with other
+         * [org.ucfs.descriptors.SchedulingPolicy] or [org.ucfs.descriptors.PackedDescriptorsStorage]
+         * to keep them in primitive form
+         * @param sppfStorage - derivation trees storage
+         * @param gss - graph structured stack
+         * @param engine - way to find matching edges of input and RSM, e.g. [CompiledIntersectionEngine]
+         * @param lookahead - FIRST sets of RSM states, e.g. [org.ucfs.grammar.combinator.Grammar.firstSets],
+         * to skip calls of nonterminals which can't be read from current input position.
+         * States missing in FIRST sets are never skipped, so RSM transformed by [org.ucfs.rsm.inlineRsm]
+         * or [org.ucfs.rsm.minimizeRsm] needs [FirstSets.compute] of its own to be filtered
+         * @param returnLookahead - FIRST sets of RSM states to skip returns to states,
+         * which can't continue from current input position
+         * @param summaries - summaries of nonterminals with regular language, e.g. [RegularSummaries] for the same
+         * RSM and input graph. Such nonterminals are called without GSS, and their derivation trees aren't built:
+         * nonterminal node has no children
+         * @param summaryCache - ends of calls, shared by runs on the same static input graph and RSM, see [SummaryCache].
+         * Cached calls aren't descended, and their derivation trees aren't built
          * @return default instance of gll parser
          */
         fun <VertexType, LabelType : ILabel> gll(
-            startState: RsmState, inputGraph: IInputGraph<VertexType, LabelType>
+            startState: RsmState,
+            inputGraph: IInputGraph<VertexType, LabelType>,
+            descriptors: IDescriptorsStorage<VertexType> = DescriptorsStorage(),
+            sppfStorage: SppfStorage<VertexType> = SppfStorage(),
+            gss: IGraphStructuredStack<VertexType> = GraphStructuredStack(),
+            engine: IIntersectionEngine = IntersectionEngine,
+            lookahead: FirstSets? = null,
+            returnLookahead: FirstSets? = null,
+            summaries: RegularSummaries<VertexType, LabelType>? = null,
+            summaryCache: SummaryCache<VertexType>? = null
         ): Gll<VertexType, LabelType> {
             val finalState = startState.outgoingEdges[0].destinationState
-            return Gll(Context(startState, finalState, inputGraph), IntersectionEngine)
+            return Gll(
+                Context(
+                    startState,
+                    finalState,
+                    inputGraph,
+                    descriptors,
+                    sppfStorage,
+                    gss,
+                    lookahead,
+                    returnLookahead,
+                    summaries,
+                    summaryCache
+                ), engine
+            )
+        }
+
+        /**
+         * Creates instance of Gll, which uses array-based [CompiledRsm] to find transitions
+         * @param startState - starting state of accepting nonterminal in RSM
+         * @param inputGraph - input graph
+         * @param rsm - compiled RSM, reachable from startState
+         * @return gll parser
+         */
+        fun <VertexType, LabelType : ILabel> compiled(
+            startState: RsmState,
+            inputGraph: IInputGraph<VertexType, LabelType>,
+            rsm: CompiledRsm = CompiledRsm.compile(startState)
+        ): Gll<VertexType, LabelType> {
+            return gll(startState, inputGraph, engine = CompiledIntersectionEngine(rsm))
+        }
+
+        /**
+         * Creates instance of Gll in recognizer mode: derivation trees are not built,
+         * results are available via [IGll.recognize]
+         * @param startState - starting state of accepting nonterminal in RSM
+         * @param inputGraph - input graph
+         * @param descriptors - collection of descriptors
+         * @return gll parser, which only recognizes paths
+         */
+        fun <VertexType, LabelType : ILabel> recognizer(
+            startState: RsmState,
+            inputGraph: IInputGraph<VertexType, LabelType>,
+            descriptors: IDescriptorsStorage<VertexType> = DescriptorsStorage()
+        ): Gll<VertexType, LabelType> {
+            return gll(startState, inputGraph, descriptors, RecognizerSppfStorage())
+        }
+
+        /**
+         * Creates instance of Gll for acyclic input graph, e.g. [org.ucfs.input.LinearInput].
+         * Descriptors are handled in topological order of input vertices, and state of passed positions
+         * (handled descriptors, GSS and derivation trees search tables) is released
+         * @param startState - starting state of accepting nonterminal in RSM
+         * @param inputGraph - acyclic input graph
+         * @param order - index of vertex in topological order of input graph
+         * @return gll parser with memory close to size of current frontier
+         */
+        fun <VertexType, LabelType : ILabel> topological(
+            startState: RsmState,
+            inputGraph: IInputGraph<VertexType, LabelType>,
+            order: (VertexType) -> Int = inputGraph.getTopologicalOrder()::getValue
+        ): Gll<VertexType, LabelType> {
+            val gss = TopologicalGraphStructuredStack<VertexType>()
+            val sppfStorage = TopologicalSppfStorage<VertexType>()
+            val descriptors = TopologicalDescriptorsStorage(order) {
+                gss.release(it)
+                sppfStorage.release(it)
+            }
+            return gll(startState, inputGraph, descriptors, sppfStorage, gss)
         }
     }
 
+    /**
+     * Empty derivation of nonterminal, shared by all its calls in the input position of descriptor
+     */
     private fun getEpsilonRange(descriptor: Descriptor<VertexType>): RangeSppfNode<VertexType> {
-        val input = InputRange(
-            descriptor.inputPosition,
-            descriptor.inputPosition,
-        )
-        val rsm = RsmRange(
-            descriptor.rsmState,
-            descriptor.rsmState,
-        )
-        return ctx.sppfStorage.addEpsilonNode(input, rsm, descriptor.gssNode.rsm)
+        val gssNode = descriptor.gssNode
+        return gssNode.epsilonNode ?: ctx.sppfStorage.addEpsilonNode(
+            InputRange(descriptor.inputPosition, descriptor.inputPosition),
+            RsmRange(descriptor.rsmState, descriptor.rsmState),
+            gssNode.rsm
+        ).also { gssNode.epsilonNode = it }
     }
 
-    private fun handlePoppedGssEdge(
+    /**
+     * Adds popped derivation to nonterminal node of the caller
+     */
+    private fun addCalledRange(
         poppedGssEdge: GssEdge<VertexType>, descriptor: Descriptor<VertexType>, childSppf: RangeSppfNode<VertexType>
-    ) {
-        val leftRange = poppedGssEdge.matchedRange
-        val startRsmState = if (poppedGssEdge.matchedRange.type is EmptyType) poppedGssEdge.gssNode.rsm
-        else poppedGssEdge.matchedRange.rsmRange!!.to
-        val rightRange = ctx.sppfStorage.addNonterminalNode(
+    ): RangeSppfNode<VertexType> {
+        // empty range (and range without RSM part in recognizer mode) starts in the beginning of the box
+        val startRsmState = poppedGssEdge.matchedRange.rsmRange?.to ?: poppedGssEdge.gssNode.rsm
+        return ctx.sppfStorage.addNonterminalNode(
             InputRange(
                 descriptor.gssNode.inputPosition, descriptor.inputPosition
             ), RsmRange(
@@ -60,6 +168,13 @@ class Gll<VertexType, LabelType : ILabel> private constructor(
                 poppedGssEdge.state,
             ), descriptor.gssNode.rsm, childSppf
         )
+    }
+
+    private fun handlePoppedGssEdge(
+        poppedGssEdge: GssEdge<VertexType>, descriptor: Descriptor<VertexType>, childSppf: RangeSppfNode<VertexType>
+    ) {
+        val leftRange = poppedGssEdge.matchedRange
+        val rightRange = addCalledRange(poppedGssEdge, descriptor, childSppf)
         val newRange = ctx.sppfStorage.addIntermediateNode(leftRange, rightRange)
         val newDescriptor = Descriptor(
             descriptor.inputPosition, poppedGssEdge.gssNode, poppedGssEdge.state, newRange
@@ -67,10 +182,19 @@ class Gll<VertexType, LabelType : ILabel> private constructor(
         ctx.descriptors.add(newDescriptor)
     }
 
-    private fun isParseResult(matchedRange: RangeSppfNode<VertexType>): Boolean {
+    private fun isParseResult(descriptor: Descriptor<VertexType>, matchedRange: RangeSppfNode<VertexType>): Boolean {
         return matchedRange.inputRange!!.from in ctx.input.getInputStartVertices()
-                && matchedRange.rsmRange!!.from == ctx.fictiveStartState
-                && matchedRange.rsmRange.to == ctx.fictiveFinalState
+                && descriptor.gssNode.rsm == ctx.fictiveStartState
+                && descriptor.rsmState == ctx.fictiveFinalState
+    }
+
+    private fun addToRelations(relations: NonterminalRelations<VertexType>, descriptor: Descriptor<VertexType>) {
+        val nonterminal = descriptor.gssNode.rsm.nonterminal
+        val from = descriptor.gssNode.inputPosition
+        // as for parse results, only paths from starting vertices are taken
+        if (nonterminal != ctx.fictiveStartState.nonterminal && ctx.input.isStart(from)) {
+            relations.add(nonterminal, from, descriptor.inputPosition)
+        }
     }
 
     /**
@@ -78,6 +202,12 @@ class Gll<VertexType, LabelType : ILabel> private constructor(
      * @param descriptor - descriptor to process
      */
     override fun handleDescriptor(descriptor: Descriptor<VertexType>) {
+        // range of empty derivation, extended by cycle in input graph, is the same node as empty one,
+        // so the rest of box was already handled from the initial descriptor of call
+        val epsilonNode = descriptor.gssNode.epsilonNode
+        if (epsilonNode != null && descriptor.rsmState == descriptor.gssNode.rsm && descriptor.sppfNode == epsilonNode) {
+            return
+        }
         ctx.descriptors.addToHandled(descriptor)
         if (descriptor.rsmState.isFinal) {
             handleTerminalRsmState(descriptor)
@@ -86,26 +216,28 @@ class Gll<VertexType, LabelType : ILabel> private constructor(
     }
 
     private fun handleTerminalRsmState(descriptor: Descriptor<VertexType>) {
+        // empty tree is possible only in start state of box, so nonterminal derives empty string
         val matchedRange = if (descriptor.sppfNode.type is EmptyType) {
-            val node = getEpsilonRange(descriptor)
-            //TODO fix
-            // dirty hack: in fact it's equivavelnt descriptors
-            // but only initial was added in handled set
-            ctx.descriptors.addToHandled(
-                Descriptor(
-                    descriptor.inputPosition,
-                    descriptor.gssNode, descriptor.rsmState, node
-                )
-            )
-            node
+            getEpsilonRange(descriptor)
         } else {
             descriptor.sppfNode
         }
+        ctx.relations?.let { addToRelations(it, descriptor) }
+        ctx.calls?.addEnd(descriptor.gssNode.rsm.nonterminal, descriptor.gssNode.inputPosition, descriptor.inputPosition)
+        val isContinued = ctx.gss.isPoppedEnd(descriptor.gssNode, descriptor.inputPosition)
         for (poppedEdge in ctx.gss.pop(descriptor, matchedRange)) {
-            handlePoppedGssEdge(poppedEdge, descriptor, matchedRange)
+            if (!canContinue(poppedEdge.state, descriptor.inputPosition)) {
+                continue
+            }
+            if (isContinued) {
+                // continuation of the caller from this end already exists and contains the same nonterminal node
+                addCalledRange(poppedEdge, descriptor, matchedRange)
+            } else {
+                handlePoppedGssEdge(poppedEdge, descriptor, matchedRange)
+            }
         }
-        if (isParseResult(matchedRange)) {
-            ctx.parseResults.add(matchedRange)
+        if (isParseResult(descriptor, matchedRange) && ctx.parseResults.add(matchedRange)) {
+            ctx.newResults?.addLast(matchedRange)
         }
     }
 }
@@ -6,6 +6,7 @@ import org.ucfs.input.IInputGraph
 import org.ucfs.input.ILabel
 import org.ucfs.parser.context.Context
 import org.ucfs.rsm.RsmState
+import org.ucfs.rsm.getAllStates
 import org.ucfs.rsm.symbol.ITerminal
 import org.ucfs.rsm.symbol.Nonterminal
 import org.ucfs.sppf.node.*
@@ -26,17 +27,101 @@ interface IGll<InputNodeType, LabelType : ILabel> {
      * @return Pair of derivation tree root and collection of reachability pairs
      */
     fun parse(): Set<RangeSppfNode<InputNodeType>> {
+        return parse(ParseBudget()).results
+    }
+
+    /**
+     * Main parsing loop with limited resources
+     * @param budget - limits of parsing, checked before handling of each descriptor
+     * @return results found before budget was exceeded, and status of parsing
+     */
+    fun parse(budget: ParseBudget): ParseResult<InputNodeType> {
         ctx.parseResults = HashSet()
+        ctx.newResults = null
         initDescriptors(ctx.input)
 
+        val tracker = budget.start()
         var curDescriptor = ctx.descriptors.nextToHandle()
 
         while (curDescriptor != null) {
+            val stopStatus = tracker.check()
+            if (stopStatus != null) {
+                return ParseResult(ctx.parseResults, stopStatus)
+            }
             handleDescriptor(curDescriptor)
             curDescriptor = ctx.descriptors.nextToHandle()
         }
 
-        return ctx.parseResults
+        saveCalls()
+        return ParseResult(ctx.parseResults, ParseStatus.COMPLETE)
+    }
+
+    /**
+     * Lazy parsing: descriptors are handled only while next result is requested,
+     * so parsing stops as soon as consumer stops iteration, e.g. via `take(n)` or `first()`
+     * @return sequence of derivation trees roots in order they are found
+     */
+    fun parseSequence(): Sequence<RangeSppfNode<InputNodeType>> = sequence {
+        val newResults = ArrayDeque<RangeSppfNode<InputNodeType>>()
+        ctx.parseResults = HashSet()
+        ctx.newResults = newResults
+        initDescriptors(ctx.input)
+
+        var curDescriptor = ctx.descriptors.nextToHandle()
+
+        while (curDescriptor != null) {
+            handleDescriptor(curDescriptor)
+            while (newResults.isNotEmpty()) {
+                yield(newResults.removeFirst())
+            }
+            curDescriptor = ctx.descriptors.nextToHandle()
+        }
+        saveCalls()
+    }
+
+    /**
+     * Adds calls, explored by completed run, to shared summary cache
+     */
+    fun saveCalls() {
+        val calls = ctx.calls ?: return
+        ctx.summaryCache?.putAll(calls)
+        ctx.calls = null
+    }
+
+    /**
+     * Runs parsing and passes each result to callback as soon as it is found
+     * @param onResult - gets derivation tree root, returns false to stop parsing
+     */
+    fun parse(onResult: (RangeSppfNode<InputNodeType>) -> Boolean) {
+        for (result in parseSequence()) {
+            if (!onResult(result)) {
+                return
+            }
+        }
+    }
+
+    /**
+     * Runs parsing and keeps only start and end vertices of found paths
+     * @return collection of reachability pairs
+     */
+    fun recognize(): Set<Pair<InputNodeType, InputNodeType>> {
+        return parse().mapTo(HashSet()) { it.inputRange!!.from to it.inputRange.to }
+    }
+
+    /**
+     * Runs parsing, starting each nonterminal of grammar in each starting vertex
+     * @return relations (from, to) for all nonterminals, where from is starting vertex
+     */
+    fun parseAllNonterminals(): NonterminalRelations<InputNodeType> {
+        val relations = NonterminalRelations<InputNodeType>()
+        ctx.relations = relations
+        try {
+            parse()
+        } finally {
+            // next runs of the same parser shouldn't collect relations
+            ctx.relations = null
+        }
+        return relations
     }
 
     /**
@@ -50,6 +135,8 @@ interface IGll<InputNodeType, LabelType : ILabel> {
      * @param input - input graph
      */
     fun initDescriptors(input: IInputGraph<InputNodeType, LabelType>) {
+        // summaries of calls don't contain relations of nonterminals, called inside
+        ctx.calls = if (ctx.summaryCache != null && ctx.relations == null) CallSummaries() else null
         for (startVertex in input.getInputStartVertices()) {
 
             val gssNode = ctx.gss.getOrCreateNode(startVertex, ctx.fictiveStartState)
@@ -58,13 +145,65 @@ interface IGll<InputNodeType, LabelType : ILabel> {
             )
             ctx.descriptors.add(startDescriptor)
         }
+        if (ctx.relations != null) {
+            initNonterminalDescriptors(input)
+        }
+    }
+
+    /**
+     * Creates descriptors for start state of each nonterminal in all starting vertices,
+     * so relations are found not only for calls from starting nonterminal
+     * @param input - input graph
+     */
+    private fun initNonterminalDescriptors(input: IInputGraph<InputNodeType, LabelType>) {
+        val startStates = getAllStates(ctx.fictiveStartState).filter {
+            it.isStart && it.nonterminal != ctx.fictiveStartState.nonterminal
+        }
+        for (startVertex in input.getInputStartVertices()) {
+            for (state in startStates) {
+                val gssNode = ctx.gss.getOrCreateNode(startVertex, state)
+                ctx.descriptors.add(Descriptor(startVertex, gssNode, state, getEmptyRange()))
+            }
+        }
+    }
+
+    /**
+     * Checks whether parsing can go on after return from nonterminal
+     * @param state - RSM state to return to
+     * @param inputPosition - input position, where nonterminal ends
+     * @return false if no path from state can be read from input position,
+     * states unknown to [Context.returnLookahead] (e.g. created by RSM inlining) are always continued
+     */
+    fun canContinue(state: RsmState, inputPosition: InputNodeType): Boolean {
+        val lookahead = ctx.returnLookahead ?: return true
+        return lookahead.canStartAt(state, ctx.input, inputPosition)
     }
 
     fun handleNonterminalEdge(
         descriptor: Descriptor<InputNodeType>, destinationRsmState: RsmState, edgeNonterminal: Nonterminal
     ) {
         val rsmStartState = edgeNonterminal.startState
-        val (newGssNode, positionToPops) = ctx.gss.addEdge(
+        val lookahead = ctx.lookahead
+        if (lookahead != null && !lookahead.canStartAt(rsmStartState, ctx.input, descriptor.inputPosition)) {
+            // call can't derive anything, so neither GSS node nor descriptor is needed
+            return
+        }
+        val summaries = ctx.summaries
+        if (summaries != null && summaries.isRegular(edgeNonterminal)) {
+            val ends = summaries.getEnds(edgeNonterminal, descriptor.inputPosition)
+            handleSummary(descriptor, destinationRsmState, edgeNonterminal, ends)
+            return
+        }
+        val calls = ctx.calls
+        if (calls != null) {
+            val cachedEnds = ctx.summaryCache!!.getEnds(edgeNonterminal, descriptor.inputPosition)
+            if (cachedEnds != null) {
+                handleSummary(descriptor, destinationRsmState, edgeNonterminal, cachedEnds)
+                return
+            }
+            calls.addCall(edgeNonterminal, descriptor.inputPosition)
+        }
+        val (newGssNode, popped) = ctx.gss.addEdge(
             descriptor.gssNode, destinationRsmState, descriptor.inputPosition, rsmStartState, descriptor.sppfNode
         )
 
@@ -73,26 +212,58 @@ interface IGll<InputNodeType, LabelType : ILabel> {
         )
         ctx.descriptors.add(newDescriptor)
 
-        for (rangeToPop in positionToPops) {
+        // ranges with the same end differ only in derivation, so caller is continued once per end
+        for ((end, rangesToPop) in popped.byEnd) {
+            if (!canContinue(destinationRsmState, end)) {
+                continue
+            }
             val leftSubRange = descriptor.sppfNode
-            val rightSubRange = ctx.sppfStorage.addNonterminalNode(
-                rangeToPop.inputRange!!,
-                RsmRange(descriptor.rsmState, destinationRsmState),
-                rsmStartState,
-                rangeToPop
-            )
+            var rightSubRange: RangeSppfNode<InputNodeType>? = null
+            for (rangeToPop in rangesToPop) {
+                rightSubRange = ctx.sppfStorage.addNonterminalNode(
+                    rangeToPop.inputRange!!,
+                    RsmRange(descriptor.rsmState, destinationRsmState),
+                    rsmStartState,
+                    rangeToPop
+                )
+            }
 
-            val newSppfNode = ctx.sppfStorage.addIntermediateNode(leftSubRange, rightSubRange)
+            val newSppfNode = ctx.sppfStorage.addIntermediateNode(leftSubRange, rightSubRange!!)
 
             //TODO why these parameters???
             newDescriptor = Descriptor(
-                rangeToPop.inputRange.to, descriptor.gssNode, destinationRsmState, newSppfNode
+                end, descriptor.gssNode, destinationRsmState, newSppfNode
             )
             ctx.descriptors.add(newDescriptor)
         }
     }
 
 
+    /**
+     * Continues parsing after call of nonterminal, using its precomputed paths instead of GSS,
+     * e.g. paths of nonterminal with regular language or cached ones
+     * @param ends - all ends of paths from input position of descriptor, derived from nonterminal
+     */
+    fun handleSummary(
+        descriptor: Descriptor<InputNodeType>,
+        destinationRsmState: RsmState,
+        edgeNonterminal: Nonterminal,
+        ends: List<InputNodeType>
+    ) {
+        for (end in ends) {
+            if (!canContinue(destinationRsmState, end)) {
+                continue
+            }
+            val rightSubRange = ctx.sppfStorage.addNonterminalNode(
+                InputRange(descriptor.inputPosition, end),
+                RsmRange(descriptor.rsmState, destinationRsmState),
+                edgeNonterminal.startState
+            )
+            val newSppfNode = ctx.sppfStorage.addIntermediateNode(descriptor.sppfNode, rightSubRange)
+            ctx.descriptors.add(Descriptor(end, descriptor.gssNode, destinationRsmState, newSppfNode))
+        }
+    }
+
     fun handleTerminalEdge(
         descriptor: Descriptor<InputNodeType>,
         inputEdge: Edge<InputNodeType, *>,
@@ -0,0 +1,218 @@
+package org.ucfs.parser
+
+import org.ucfs.descriptors.DescriptorsStorage
+import org.ucfs.descriptors.IncrementalDescriptorsStorage
+import org.ucfs.gss.GraphStructuredStack
+import org.ucfs.gss.GssNode
+import org.ucfs.input.Edge
+import org.ucfs.input.IInputGraph
+import org.ucfs.input.ILabel
+import org.ucfs.rsm.RsmState
+import org.ucfs.rsm.symbol.ITerminal
+import org.ucfs.rsm.symbol.Nonterminal
+import org.ucfs.sppf.DecrementalSppfStorage
+import org.ucfs.sppf.node.InputRange
+import org.ucfs.sppf.node.RangeSppfNode
+
+/**
+ * Gll, which keeps its context (GSS, SPPF and handled descriptors) between parsings.
+ * Edges added via [addEdge] continue parsing only from descriptors, already handled at their source vertices.
+ * Edges removed via [removeEdge] delete only derivation trees built through them.
+ * Every parsing method continues the same parsing and returns only results, not found by previous calls
+ * @param VertexType - type of vertex in input graph
+ * @param LabelType - type of label on edges in input graph
+ */
+class IncrementalGll<VertexType, LabelType : ILabel> private constructor(
+    private val gll: Gll<VertexType, LabelType>,
+    private val descriptors: IncrementalDescriptorsStorage<VertexType>,
+    private val sppfStorage: DecrementalSppfStorage<VertexType>,
+    private val gss: GraphStructuredStack<VertexType>
+) : IGll<VertexType, LabelType> by gll {
+
+    companion object {
+        /**
+         * Creates instance of incremental Gll
+         * @param startState - starting state of accepting nonterminal in RSM
+         * @param inputGraph - input graph
+         * @param descriptors - underlying collection of descriptors, e.g. with other
+         * [org.ucfs.descriptors.SchedulingPolicy]. It has to support removing of handled descriptors for [removeEdge]
+         */
+        fun <VertexType, LabelType : ILabel> gll(
+            startState: RsmState,
+            inputGraph: IInputGraph<VertexType, LabelType>,
+            descriptors: DescriptorsStorage<VertexType> = DescriptorsStorage()
+        ): IncrementalGll<VertexType, LabelType> {
+            val incrementalDescriptors = IncrementalDescriptorsStorage(descriptors)
+            val sppfStorage = DecrementalSppfStorage<VertexType>()
+            val gss = GraphStructuredStack<VertexType>()
+            return IncrementalGll(
+                Gll.gll(startState, inputGraph, incrementalDescriptors, sppfStorage, gss),
+                incrementalDescriptors,
+                sppfStorage,
+                gss
+            )
+        }
+    }
+
+    private var isStarted = false
+
+    private val addedEdges = ArrayList<Pair<VertexType, Edge<VertexType, LabelType>>>()
+
+    /**
+     * Adds edge to input graph, it will be taken into account by next [parse]
+     */
+    fun addEdge(from: VertexType, label: LabelType, to: VertexType) {
+        ctx.input.addEdge(from, label, to)
+        addedEdges.add(from to Edge(label, to))
+    }
+
+    /**
+     * Removes edge from input graph and deletes parsing state derived through it:
+     * derivation trees, GSS edges and popped ranges, handled descriptors and results
+     * @return results, which are no longer valid
+     */
+    fun removeEdge(from: VertexType, label: LabelType, to: VertexType): Set<RangeSppfNode<VertexType>> {
+        ctx.input.removeEdge(from, label, to)
+        addedEdges.remove(from to Edge(label, to))
+        val terminal = label.terminal ?: return emptySet()
+        if (ctx.input.getEdges(from).any { it.targetVertex == to && it.label.terminal == terminal }) {
+            // the same terminal is still matched by another edge
+            return emptySet()
+        }
+        val deleted = sppfStorage.removeTerminal(InputRange(from, to), terminal)
+        if (deleted.isEmpty()) {
+            return emptySet()
+        }
+        for (node in deleted) {
+            removeFromGss(node)
+        }
+        descriptors.removeHandled(deleted)
+        val removedResults = ctx.parseResults.filterTo(HashSet()) { it in deleted }
+        ctx.parseResults.removeAll(removedResults)
+        return removedResults
+    }
+
+    /**
+     * Removes deleted range from GSS nodes, where it could be stored:
+     * as popped range of node, where it starts, or as matched range on edges of nodes, called where it ends
+     */
+    private fun removeFromGss(node: RangeSppfNode<VertexType>) {
+        val inputRange = node.inputRange ?: return
+        val rsmRange = node.rsmRange ?: return
+        gss.nodes[GssNode(rsmRange.from, inputRange.from)]?.popped?.remove(node)
+        for (nonterminalEdge in rsmRange.to.nonterminalEdgesStorage) {
+            val calledNode = gss.nodes[GssNode((nonterminalEdge.symbol as Nonterminal).startState, inputRange.to)]
+            calledNode?.removeEdges { it.matchedRange == node }
+        }
+    }
+
+    /**
+     * Prepares next run: the first one starts from start vertices of input,
+     * next ones continue from edges added after previous run
+     */
+    private fun startRun(newResults: ArrayDeque<RangeSppfNode<VertexType>>) {
+        ctx.newResults = newResults
+        if (!isStarted) {
+            isStarted = true
+            ctx.parseResults = HashSet()
+            initDescriptors(ctx.input)
+        } else {
+            for ((from, edge) in addedEdges) {
+                continueFromEdge(from, edge)
+            }
+        }
+        addedEdges.clear()
+    }
+
+    /**
+     * The first call parses the whole input, next ones continue parsing from edges added after previous call
+     * @return results, which were not found by previous calls
+     */
+    override fun parse(): Set<RangeSppfNode<VertexType>> {
+        return parse(ParseBudget()).results
+    }
+
+    /**
+     * Continues parsing as [parse] does, until budget is exceeded. Descriptors, which were not handled,
+     * are kept, so the next call continues from them
+     * @return results, which were not found by previous calls
+     */
+    override fun parse(budget: ParseBudget): ParseResult<VertexType> {
+        val newResults = ArrayDeque<RangeSppfNode<VertexType>>()
+        startRun(newResults)
+        val tracker = budget.start()
+        var status = ParseStatus.COMPLETE
+        var curDescriptor = ctx.descriptors.nextToHandle()
+        while (curDescriptor != null) {
+            val stopStatus = tracker.check()
+            if (stopStatus != null) {
+                ctx.descriptors.add(curDescriptor)
+                status = stopStatus
+                break
+            }
+            handleDescriptor(curDescriptor)
+            curDescriptor = ctx.descriptors.nextToHandle()
+        }
+        ctx.newResults = null
+        return ParseResult(newResults.toHashSet(), status)
+    }
+
+    /**
+     * Continues parsing as [parse] does, lazily
+     * @return sequence of results, which were not found by previous calls
+     */
+    override fun parseSequence(): Sequence<RangeSppfNode<VertexType>> = sequence {
+        val newResults = ArrayDeque<RangeSppfNode<VertexType>>()
+        startRun(newResults)
+        var curDescriptor = ctx.descriptors.nextToHandle()
+        while (curDescriptor != null) {
+            handleDescriptor(curDescriptor)
+            while (newResults.isNotEmpty()) {
+                yield(newResults.removeFirst())
+            }
+            curDescriptor = ctx.descriptors.nextToHandle()
+        }
+        ctx.newResults = null
+    }
+
+    override fun parse(onResult: (RangeSppfNode<VertexType>) -> Boolean) {
+        for (result in parseSequence()) {
+            if (!onResult(result)) {
+                return
+            }
+        }
+    }
+
+    override fun recognize(): Set<Pair<VertexType, VertexType>> {
+        return parse().mapTo(HashSet()) { it.inputRange!!.from to it.inputRange.to }
+    }
+
+    /**
+     * Continues parsing as [parse] does
+     * @return relations of all nonterminals, derived by descriptors handled in this call
+     */
+    override fun parseAllNonterminals(): NonterminalRelations<VertexType> {
+        val relations = NonterminalRelations<VertexType>()
+        ctx.relations = relations
+        try {
+            parse()
+        } finally {
+            ctx.relations = null
+        }
+        return relations
+    }
+
+    /**
+     * Makes the same step by new edge, as [org.ucfs.intersection.IntersectionEngine] does for
+     * each descriptor, already handled in its source vertex
+     */
+    private fun continueFromEdge(from: VertexType, edge: Edge<VertexType, LabelType>) {
+        // copy: handling may add descriptors to the same position
+        for (descriptor in descriptors.getHandled(from).toList()) {
+            val rsmEdge = descriptor.rsmState.getTerminalEdge(edge.label.terminal)
+            if (rsmEdge != null) {
+                handleTerminalEdge(descriptor, edge, rsmEdge.destinationState, rsmEdge.symbol as ITerminal)
+            }
+        }
+    }
+}
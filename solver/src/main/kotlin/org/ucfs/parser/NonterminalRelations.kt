@@ -0,0 +1,48 @@
+package org.ucfs.parser
+
+import org.ucfs.rsm.symbol.Nonterminal
+import org.ucfs.utils.DenseIdMap
+import org.ucfs.utils.LongPairHashSet
+
+/**
+ * Relations (from, to) for each nonterminal, found in one run of parser.
+ * Vertices are stored as dense ids, pairs of each nonterminal -- in separate [LongPairHashSet]
+ * @param VertexType - type of vertex in input graph
+ */
+class NonterminalRelations<VertexType> {
+    private val vertexIds = DenseIdMap<VertexType>()
+
+    private val relations = HashMap<Nonterminal, LongPairHashSet>()
+
+    val nonterminals: Set<Nonterminal>
+        get() = relations.keys
+
+    /**
+     * @return true if pair was not in relation of given nonterminal before
+     */
+    fun add(nonterminal: Nonterminal, from: VertexType, to: VertexType): Boolean {
+        val pairs = relations.getOrPut(nonterminal) { LongPairHashSet() }
+        return pairs.add(vertexIds.getId(from).toLong(), vertexIds.getId(to).toLong())
+    }
+
+    fun contains(nonterminal: Nonterminal, from: VertexType, to: VertexType): Boolean {
+        val pairs = relations[nonterminal] ?: return false
+        val fromId = vertexIds.findId(from)
+        val toId = vertexIds.findId(to)
+        return fromId >= 0 && toId >= 0 && pairs.contains(fromId.toLong(), toId.toLong())
+    }
+
+    /**
+     * @return count of pairs in relation of given nonterminal
+     */
+    fun size(nonterminal: Nonterminal): Int = relations[nonterminal]?.size ?: 0
+
+    /**
+     * @return pairs of given nonterminal as objects, e.g. for comparison in tests
+     */
+    fun getPairs(nonterminal: Nonterminal): Set<Pair<VertexType, VertexType>> {
+        val result = HashSet<Pair<VertexType, VertexType>>()
+        relations[nonterminal]?.forEach { from, to -> result.add(vertexIds[from.toInt()] to vertexIds[to.toInt()]) }
+        return result
+    }
+}
@@ -0,0 +1,71 @@
+package org.ucfs.parser
+
+import org.ucfs.descriptors.ConcurrentDescriptorsStorage
+import org.ucfs.gss.ConcurrentGraphStructuredStack
+import org.ucfs.input.IInputGraph
+import org.ucfs.input.ILabel
+import org.ucfs.parser.context.Context
+import org.ucfs.rsm.RsmState
+import org.ucfs.sppf.ConcurrentSppfStorage
+import org.ucfs.sppf.node.RangeSppfNode
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ForkJoinPool
+
+/**
+ * Gll, which handles descriptors concurrently in ForkJoinPool.
+ * Uses thread-safe descriptors storage, GSS and SPPF storage, builds the same SPPF as sequential [Gll].
+ * Only complete parsing is supported, so it isn't an [IGll]: parsing with budget, streaming parsing
+ * and relations of all nonterminals depend on sequential handling of descriptors
+ * @param VertexType - type of vertex in input graph
+ * @param LabelType - type of label on edges in input graph
+ */
+class ParallelGll<VertexType, LabelType : ILabel> private constructor(
+    private val gll: Gll<VertexType, LabelType>,
+    private val descriptors: ConcurrentDescriptorsStorage<VertexType>
+) {
+    /**
+     * Parser configuration
+     */
+    val ctx: Context<VertexType, LabelType>
+        get() = gll.ctx
+
+    companion object {
+        /**
+         * Creates instance of parallel Gll
+         * @param startState - starting state of accepting nonterminal in RSM
+         * @param inputGraph - input graph
+         * @param pool - pool to handle descriptors in
+         */
+        fun <VertexType, LabelType : ILabel> gll(
+            startState: RsmState,
+            inputGraph: IInputGraph<VertexType, LabelType>,
+            pool: ForkJoinPool = ForkJoinPool.commonPool()
+        ): ParallelGll<VertexType, LabelType> {
+            val descriptors = ConcurrentDescriptorsStorage<VertexType>(pool)
+            val gll = Gll.gll(
+                startState, inputGraph, descriptors, ConcurrentSppfStorage(), ConcurrentGraphStructuredStack()
+            )
+            return ParallelGll(gll, descriptors)
+        }
+    }
+
+    /**
+     * Handles all descriptors in the pool
+     * @return roots of derivation trees
+     */
+    fun parse(): Set<RangeSppfNode<VertexType>> {
+        ctx.parseResults = ConcurrentHashMap.newKeySet()
+        ctx.newResults = null
+        descriptors.handleAll(gll::handleDescriptor) {
+            gll.initDescriptors(ctx.input)
+        }
+        return ctx.parseResults
+    }
+
+    /**
+     * @return pairs of input vertices, where derivations of start nonterminal begin and end
+     */
+    fun recognize(): Set<Pair<VertexType, VertexType>> {
+        return parse().mapTo(HashSet()) { it.inputRange!!.from to it.inputRange.to }
+    }
+}
@@ -0,0 +1,97 @@
+package org.ucfs.parser
+
+import org.ucfs.sppf.node.RangeSppfNode
+
+/**
+ * Limits of one parsing. They are checked between handling of descriptors,
+ * so parsing stops soon after some limit is exceeded and returns results found so far
+ * @param timeoutMillis - wall-clock time for parsing
+ * @param maxDescriptors - maximal count of handled descriptors
+ * @param maxHeapBytes - threshold of used heap of the whole JVM
+ * @param checkInterval - time and heap are checked once per this count of handled descriptors, positive
+ * @throws IllegalArgumentException if some limit is negative or checkInterval isn't positive
+ */
+class ParseBudget(
+    val timeoutMillis: Long? = null,
+    val maxDescriptors: Long? = null,
+    val maxHeapBytes: Long? = null,
+    val checkInterval: Int = 256
+) {
+    init {
+        require(timeoutMillis == null || timeoutMillis >= 0) { "timeoutMillis must be non-negative: $timeoutMillis" }
+        require(maxDescriptors == null || maxDescriptors >= 0) { "maxDescriptors must be non-negative: $maxDescriptors" }
+        require(maxHeapBytes == null || maxHeapBytes >= 0) { "maxHeapBytes must be non-negative: $maxHeapBytes" }
+        require(checkInterval > 0) { "checkInterval must be positive: $checkInterval" }
+    }
+
+    @Volatile
+    var isCancelled = false
+        private set
+
+    /**
+     * Stops parsing, which uses this budget. Can be called from any thread
+     */
+    fun cancel() {
+        isCancelled = true
+    }
+
+    /**
+     * Starts counting of budget for new parsing
+     */
+    fun start(): Tracker = Tracker()
+
+    inner class Tracker {
+        private val deadline = timeoutMillis?.let { System.nanoTime() + it * 1_000_000 }
+
+        var handledDescriptors = 0L
+            private set
+
+        /**
+         * Should be called before handling of each descriptor
+         * @return reason to stop parsing, null if budget is not exceeded
+         */
+        fun check(): ParseStatus? {
+            if (isCancelled) {
+                return ParseStatus.CANCELLED
+            }
+            if (maxDescriptors != null && handledDescriptors >= maxDescriptors) {
+                return ParseStatus.DESCRIPTORS_LIMIT_EXCEEDED
+            }
+            if (handledDescriptors++ % checkInterval == 0L) {
+                if (deadline != null && System.nanoTime() - deadline >= 0) {
+                    return ParseStatus.DEADLINE_EXCEEDED
+                }
+                if (maxHeapBytes != null && usedHeap() >= maxHeapBytes) {
+                    return ParseStatus.HEAP_LIMIT_EXCEEDED
+                }
+            }
+            return null
+        }
+
+        private fun usedHeap(): Long {
+            val runtime = Runtime.getRuntime()
+            return runtime.totalMemory() - runtime.freeMemory()
+        }
+    }
+}
+
+enum class ParseStatus {
+    COMPLETE,
+    DEADLINE_EXCEEDED,
+    DESCRIPTORS_LIMIT_EXCEEDED,
+    HEAP_LIMIT_EXCEEDED,
+    CANCELLED;
+
+    val isComplete: Boolean
+        get() = this == COMPLETE
+}
+
+/**
+ * Results of parsing with budget
+ * @param results - derivation trees roots, found before parsing was stopped
+ * @param status - whether all results were found or why parsing was stopped
+ */
+class ParseResult<InputNodeType>(
+    val results: Set<RangeSppfNode<InputNodeType>>,
+    val status: ParseStatus
+)
@@ -0,0 +1,103 @@
+package org.ucfs.parser
+
+import org.ucfs.input.IInputGraph
+import org.ucfs.input.ILabel
+import org.ucfs.rsm.RsmState
+import org.ucfs.rsm.getAllStates
+import org.ucfs.rsm.getCallees
+import org.ucfs.rsm.isRecursive
+import org.ucfs.rsm.symbol.Nonterminal
+import org.ucfs.utils.DenseIdMap
+import java.util.BitSet
+
+/**
+ * Summaries of nonterminals with regular language: ones, which can't reach recursive nonterminal by calls.
+ * Paths of such nonterminal are found by BFS over product of input graph and its box, without GSS:
+ * calls of nested regular nonterminals are replaced with their summaries.
+ * Summaries are computed on demand for current state of input graph, so they aren't valid after its change
+ * @param startState - starting state of accepting nonterminal in RSM
+ * @param input - input graph
+ */
+class RegularSummaries<VertexType, LabelType : ILabel>(
+    startState: RsmState, private val input: IInputGraph<VertexType, LabelType>
+) {
+    private val regular = HashSet<Nonterminal>()
+
+    private val vertices = DenseIdMap<VertexType>()
+
+    /**
+     * Index of each state in its box
+     */
+    private val boxIds = HashMap<RsmState, Int>()
+
+    private val summaries = HashMap<Nonterminal, HashMap<VertexType, List<VertexType>>>()
+
+    init {
+        val nonterminals = getAllStates(startState).mapTo(HashSet()) { it.nonterminal }
+        val recursive = nonterminals.filterTo(HashSet()) { isRecursive(it) }
+        for (nonterminal in nonterminals) {
+            if (nonterminal != startState.nonterminal && nonterminal !in recursive && !callsRecursive(nonterminal, recursive)) {
+                regular.add(nonterminal)
+                nonterminal.getStates().forEachIndexed { id, state -> boxIds[state] = id }
+            }
+        }
+    }
+
+    private fun callsRecursive(nonterminal: Nonterminal, recursive: Set<Nonterminal>): Boolean {
+        val visited = hashSetOf(nonterminal)
+        val queue = ArrayDeque(visited)
+        while (queue.isNotEmpty()) {
+            for (callee in getCallees(queue.removeFirst())) {
+                if (callee in recursive) return true
+                if (visited.add(callee)) queue.addLast(callee)
+            }
+        }
+        return false
+    }
+
+    fun isRegular(nonterminal: Nonterminal): Boolean = nonterminal in regular
+
+    /**
+     * @return ends of paths from given vertex, which are derived from regular nonterminal
+     */
+    fun getEnds(nonterminal: Nonterminal, from: VertexType): List<VertexType> {
+        val byVertex = summaries.getOrPut(nonterminal) { HashMap() }
+        byVertex[from]?.let { return it }
+        val ends = search(nonterminal, from)
+        byVertex[from] = ends
+        return ends
+    }
+
+    private fun search(nonterminal: Nonterminal, from: VertexType): List<VertexType> {
+        val states = nonterminal.getStates().toList()
+        // reached vertices for each state of box
+        val visited = Array(states.size) { BitSet() }
+        val ends = BitSet()
+        val queue = ArrayDeque<Pair<VertexType, RsmState>>()
+
+        fun visit(vertex: VertexType, state: RsmState) {
+            val vertexId = vertices.getId(vertex)
+            if (visited[boxIds.getValue(state)].get(vertexId)) return
+            visited[boxIds.getValue(state)].set(vertexId)
+            if (state.isFinal) ends.set(vertexId)
+            queue.addLast(vertex to state)
+        }
+
+        visit(from, nonterminal.startState)
+        while (queue.isNotEmpty()) {
+            val (vertex, state) = queue.removeFirst()
+            for (inputEdge in input.getEdges(vertex)) {
+                val rsmEdge = state.getTerminalEdge(inputEdge.label.terminal) ?: continue
+                visit(inputEdge.targetVertex, rsmEdge.destinationState)
+            }
+            for (rsmEdge in state.nonterminalEdgesStorage) {
+                for (end in getEnds(rsmEdge.symbol as Nonterminal, vertex)) {
+                    visit(end, rsmEdge.destinationState)
+                }
+            }
+        }
+        val result = ArrayList<VertexType>(ends.cardinality())
+        ends.stream().forEach { result.add(vertices[it]) }
+        return result
+    }
+}
@@ -0,0 +1,71 @@
+package org.ucfs.parser
+
+import org.ucfs.rsm.symbol.Nonterminal
+
+/**
+ * Ends of nonterminal calls, shared by parser runs on the same static input graph and RSM,
+ * e.g. by single-source queries from different vertices. Run of parser adds summaries of calls, which it
+ * explored, if it completes. Calls with cached summary aren't descended: their derivation trees aren't built,
+ * nonterminal node has no children.
+ * Least recently used summaries are evicted, when total count of stored ends exceeds the limit.
+ * Cache isn't thread-safe and isn't valid after change of input graph
+ * @param maxEnds - limit of stored end vertices, summary without ends is counted as one
+ */
+class SummaryCache<VertexType>(private val maxEnds: Int) {
+    private val summaries = LinkedHashMap<Pair<Nonterminal, VertexType>, List<VertexType>>(16, 0.75f, true)
+
+    /**
+     * Count of stored end vertices, summary without ends is counted as one
+     */
+    var endsCount = 0
+        private set
+
+    val size: Int
+        get() = summaries.size
+
+    /**
+     * @return all ends of paths from given vertex, derived from nonterminal, null if call isn't cached
+     */
+    fun getEnds(nonterminal: Nonterminal, from: VertexType): List<VertexType>? = summaries[nonterminal to from]
+
+    fun put(nonterminal: Nonterminal, from: VertexType, ends: List<VertexType>) {
+        summaries.put(nonterminal to from, ends)?.let { endsCount -= getWeight(it) }
+        endsCount += getWeight(ends)
+        val iterator = summaries.values.iterator()
+        while (endsCount > maxEnds && iterator.hasNext()) {
+            endsCount -= getWeight(iterator.next())
+            iterator.remove()
+        }
+    }
+
+    /**
+     * Adds summaries of all calls, explored by completed run of parser
+     */
+    fun putAll(calls: CallSummaries<VertexType>) {
+        for ((nonterminal, byVertex) in calls.ends) {
+            for ((from, ends) in byVertex) {
+                put(nonterminal, from, ends.toList())
+            }
+        }
+    }
+
+    private fun getWeight(ends: List<VertexType>): Int = maxOf(ends.size, 1)
+}
+
+/**
+ * Ends of nonterminal calls, explored by one run of parser, to be added to [SummaryCache]
+ */
+class CallSummaries<VertexType> {
+    internal val ends = HashMap<Nonterminal, HashMap<VertexType, LinkedHashSet<VertexType>>>()
+
+    fun addCall(nonterminal: Nonterminal, from: VertexType) {
+        ends.getOrPut(nonterminal) { HashMap() }.getOrPut(from) { LinkedHashSet() }
+    }
+
+    /**
+     * Adds end of path, derived from nonterminal. Paths of not recorded calls, e.g. of accepting nonterminal, are skipped
+     */
+    fun addEnd(nonterminal: Nonterminal, from: VertexType, to: VertexType) {
+        ends[nonterminal]?.get(from)?.add(to)
+    }
+}
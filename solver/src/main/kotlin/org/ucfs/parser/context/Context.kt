@@ -1,9 +1,16 @@
 package org.ucfs.parser.context
 
 import org.ucfs.descriptors.DescriptorsStorage
+import org.ucfs.descriptors.IDescriptorsStorage
 import org.ucfs.gss.GraphStructuredStack
+import org.ucfs.gss.IGraphStructuredStack
 import org.ucfs.input.IInputGraph
 import org.ucfs.input.ILabel
+import org.ucfs.parser.CallSummaries
+import org.ucfs.parser.NonterminalRelations
+import org.ucfs.parser.RegularSummaries
+import org.ucfs.parser.SummaryCache
+import org.ucfs.rsm.FirstSets
 import org.ucfs.rsm.RsmState
 import org.ucfs.sppf.SppfStorage
 import org.ucfs.sppf.node.RangeSppfNode
@@ -19,24 +26,55 @@ class Context<InputNodeType, LabelType : ILabel>(
      */
     val fictiveStartState: RsmState,
     val fictiveFinalState: RsmState,
-    val input: IInputGraph<InputNodeType, LabelType>
+    val input: IInputGraph<InputNodeType, LabelType>,
+    /**
+     * Collection of descriptors
+     */
+    val descriptors: IDescriptorsStorage<InputNodeType> = DescriptorsStorage(),
+    /**
+     * Derivation trees storage
+     */
+    val sppfStorage: SppfStorage<InputNodeType> = SppfStorage(),
 
+    val gss: IGraphStructuredStack<InputNodeType> = GraphStructuredStack(),
 
-) {
+    /**
+     * FIRST sets to skip calls of nonterminals, which can't start in current input position, null to call all
+     */
+    val lookahead: FirstSets? = null,
 
     /**
-     * Collection of descriptors
+     * FIRST sets to skip returns from nonterminals to RSM states, which can't continue in current input position,
+     * null to continue all
      */
-    val descriptors: DescriptorsStorage<InputNodeType> = DescriptorsStorage()
+    val returnLookahead: FirstSets? = null,
 
     /**
-     * Derivation trees storage
+     * Summaries to call nonterminals with regular language without GSS, null to call all via GSS
      */
-    val sppfStorage: SppfStorage<InputNodeType> = SppfStorage()
+    val summaries: RegularSummaries<InputNodeType, LabelType>? = null,
 
-    val gss: GraphStructuredStack<InputNodeType> = GraphStructuredStack()
+    /**
+     * Summaries of calls, shared with other runs on the same input graph, null to descend into all calls
+     */
+    val summaryCache: SummaryCache<InputNodeType>? = null
+
+) {
 
+    var parseResults: MutableSet<RangeSppfNode<InputNodeType>> = HashSet()
 
+    /**
+     * Results not yet passed to consumer of streaming parsing, null if parsing isn't streaming
+     */
+    var newResults: ArrayDeque<RangeSppfNode<InputNodeType>>? = null
 
-    var parseResults = HashSet<RangeSppfNode<InputNodeType>>()
-}
\ No newline at end of file
+    /**
+     * Relations of all nonterminals, collected only if not null
+     */
+    var relations: NonterminalRelations<InputNodeType>? = null
+
+    /**
+     * Calls explored by current run, collected only if [summaryCache] is used
+     */
+    var calls: CallSummaries<InputNodeType>? = null
+}
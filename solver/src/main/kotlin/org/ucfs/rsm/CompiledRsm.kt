@@ -0,0 +1,151 @@
+package org.ucfs.rsm
+
+import org.ucfs.rsm.symbol.ITerminal
+import org.ucfs.rsm.symbol.Nonterminal
+import java.util.IdentityHashMap
+
+/**
+ * Immutable array-based form of RSM. States, terminals and nonterminals get dense int ids,
+ * transitions of state `s` are stored in flat arrays at indices `offsets[s] until offsets[s + 1]`,
+ * terminal transitions of each state are sorted by terminal id
+ */
+class CompiledRsm private constructor(
+    /**
+     * State by its id
+     */
+    val states: Array<RsmState>,
+    /**
+     * Terminal by its id
+     */
+    val terminals: Array<ITerminal>,
+    /**
+     * Nonterminal by its id
+     */
+    val nonterminals: Array<Nonterminal>,
+    val isFinal: BooleanArray,
+    val terminalOffsets: IntArray,
+    val terminalLabels: IntArray,
+    val terminalTargets: IntArray,
+    val nonterminalOffsets: IntArray,
+    val nonterminalLabels: IntArray,
+    val nonterminalTargets: IntArray,
+) {
+    private val stateIds = IdentityHashMap<RsmState, Int>(states.size)
+
+    private val terminalIds = HashMap<ITerminal, Int>(terminals.size)
+
+    init {
+        states.forEachIndexed { id, state ->
+            stateIds[state] = id
+            state.compiledRsm = this
+            state.compiledId = id
+        }
+        terminals.forEachIndexed { id, terminal -> terminalIds[terminal] = id }
+    }
+
+    val statesCount: Int
+        get() = states.size
+
+    /**
+     * @return id of given state, read from the state itself, if this RSM is its last compilation
+     * @throws RsmException if state is not part of this RSM
+     */
+    fun getId(state: RsmState): Int {
+        if (state.compiledRsm === this) {
+            return state.compiledId
+        }
+        return stateIds[state] ?: throw RsmException("state ${state.id} is not part of compiled RSM")
+    }
+
+    /**
+     * @return id of given terminal, -1 if there are no transitions via it
+     */
+    fun getTerminalId(terminal: ITerminal?): Int = terminalIds[terminal] ?: -1
+
+    /**
+     * @return id of state, reachable from given one via given terminal, -1 if there is no such transition
+     */
+    fun getTerminalTarget(state: Int, terminal: Int): Int {
+        var low = terminalOffsets[state]
+        var high = terminalOffsets[state + 1] - 1
+        while (low <= high) {
+            val middle = (low + high) ushr 1
+            val label = terminalLabels[middle]
+            when {
+                label < terminal -> low = middle + 1
+                label > terminal -> high = middle - 1
+                else -> return terminalTargets[middle]
+            }
+        }
+        return -1
+    }
+
+    companion object {
+        /**
+         * Compiles RSM, reachable from given state, e.g. [org.ucfs.grammar.combinator.Grammar.rsm].
+         * Changes of RSM after compilation are not reflected
+         */
+        fun compile(startState: RsmState): CompiledRsm {
+            val states = LinkedHashSet<RsmState>()
+            val queue = ArrayDeque(listOf(startState))
+            while (queue.isNotEmpty()) {
+                val state = queue.removeFirst()
+                if (!states.add(state)) continue
+                for ((symbol, destination) in state.outgoingEdges) {
+                    if (symbol is Nonterminal) {
+                        queue.addLast(symbol.startState)
+                    }
+                    queue.addLast(destination)
+                }
+            }
+            val stateIds = IdentityHashMap<RsmState, Int>()
+            states.forEachIndexed { id, state -> stateIds[state] = id }
+
+            val terminals = LinkedHashMap<ITerminal, Int>()
+            val nonterminals = LinkedHashMap<Nonterminal, Int>()
+            for (state in states) {
+                nonterminals.getOrPut(state.nonterminal) { nonterminals.size }
+                for (edge in state.terminalEdgesStorage) {
+                    terminals.getOrPut(edge.symbol as ITerminal) { terminals.size }
+                }
+            }
+
+            val terminalOffsets = IntArray(states.size + 1)
+            val terminalLabels = ArrayList<Int>()
+            val terminalTargets = ArrayList<Int>()
+            val nonterminalOffsets = IntArray(states.size + 1)
+            val nonterminalLabels = ArrayList<Int>()
+            val nonterminalTargets = ArrayList<Int>()
+            for ((id, state) in states.withIndex()) {
+                terminalOffsets[id] = terminalLabels.size
+                // as in RsmState.getTerminalEdge, the first edge via terminal is taken
+                val terminalEdges = state.terminalEdgesStorage.distinctBy { it.symbol }
+                for (edge in terminalEdges.sortedBy { terminals.getValue(it.symbol as ITerminal) }) {
+                    terminalLabels.add(terminals.getValue(edge.symbol as ITerminal))
+                    terminalTargets.add(stateIds.getValue(edge.destinationState))
+                }
+                nonterminalOffsets[id] = nonterminalLabels.size
+                for (edge in state.nonterminalEdgesStorage) {
+                    nonterminalLabels.add(nonterminals.getValue(edge.symbol as Nonterminal))
+                    nonterminalTargets.add(stateIds.getValue(edge.destinationState))
+                }
+            }
+            terminalOffsets[states.size] = terminalLabels.size
+            nonterminalOffsets[states.size] = nonterminalLabels.size
+
+            val stateArray = states.toTypedArray()
+            return CompiledRsm(
+                stateArray,
+                terminals.keys.toTypedArray(),
+                nonterminals.keys.toTypedArray(),
+                BooleanArray(stateArray.size) { stateArray[it].isFinal },
+                terminalOffsets,
+                terminalLabels.toIntArray(),
+                terminalTargets.toIntArray(),
+                nonterminalOffsets,
+                nonterminalLabels.toIntArray(),
+                nonterminalTargets.toIntArray(),
+            )
+        }
+    }
+}
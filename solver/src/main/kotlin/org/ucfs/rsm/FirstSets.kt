@@ -0,0 +1,82 @@
+package org.ucfs.rsm
+
+import org.ucfs.input.IInputGraph
+import org.ucfs.input.ILabel
+import org.ucfs.rsm.symbol.ITerminal
+import org.ucfs.rsm.symbol.Nonterminal
+
+/**
+ * FIRST sets of RSM states: terminals which can be read first on a path from state to final state of its box,
+ * and nullability: whether such path can read nothing
+ */
+class FirstSets private constructor(
+    private val first: Map<RsmState, Set<ITerminal>>,
+    private val nullable: Set<RsmState>
+) {
+    /**
+     * @return true if FIRST sets were computed for given state, states of other RSM, e.g. created by
+     * [inlineRsm] or [minimizeRsm] from the original one, are unknown
+     */
+    operator fun contains(state: RsmState): Boolean = state in first
+
+    fun isNullable(state: RsmState): Boolean = state in nullable
+
+    /**
+     * @return FIRST set of state, empty one for unknown state
+     */
+    fun getFirst(state: RsmState): Set<ITerminal> = first[state] ?: emptySet()
+
+    /**
+     * @return false if no path from state can be read from given vertex of input graph,
+     * always true for unknown state, so nothing is filtered out by FIRST sets of other RSM
+     */
+    fun <VertexType, LabelType : ILabel> canStartAt(
+        state: RsmState, input: IInputGraph<VertexType, LabelType>, vertex: VertexType
+    ): Boolean {
+        if (isNullable(state) || state !in first) {
+            return true
+        }
+        val terminals = getFirst(state)
+        val inputEdges = input.getEdges(vertex)
+        if (input.isIndexedByTerminal && terminals.size < inputEdges.size) {
+            return terminals.any { input.getEdges(vertex, it).isNotEmpty() }
+        }
+        return inputEdges.any { it.label.terminal in terminals }
+    }
+
+    companion object {
+        /**
+         * Computes FIRST sets for all states reachable from startState
+         */
+        fun compute(startState: RsmState): FirstSets {
+            val states = getAllStates(startState)
+            val first = states.associateWithTo(HashMap()) { HashSet<ITerminal>() }
+            val nullable = HashSet<RsmState>()
+            for (state in states) {
+                state.terminalEdgesStorage.mapTo(first.getValue(state)) { it.symbol as ITerminal }
+                if (state.isFinal) {
+                    nullable.add(state)
+                }
+            }
+
+            var changed = true
+            while (changed) {
+                changed = false
+                for (state in states) {
+                    val stateFirst = first.getValue(state)
+                    for (edge in state.nonterminalEdgesStorage) {
+                        val calleeStart = (edge.symbol as Nonterminal).startState
+                        changed = stateFirst.addAll(first.getValue(calleeStart)) || changed
+                        if (calleeStart in nullable) {
+                            changed = stateFirst.addAll(first.getValue(edge.destinationState)) || changed
+                            if (edge.destinationState in nullable) {
+                                changed = nullable.add(state) || changed
+                            }
+                        }
+                    }
+                }
+            }
+            return FirstSets(first, nullable)
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package org.ucfs.rsm
+
+import org.ucfs.rsm.symbol.Nonterminal
+import org.ucfs.rsm.symbol.Symbol
+
+/**
+ * RSM, where calls of some nonterminals are replaced with copies of their boxes
+ * @param startState - starting state of accepting nonterminal
+ * @param origins - source state of edge in source RSM for each edge, null if mapping isn't kept
+ */
+class InlinedRsm(val startState: RsmState, private val origins: Map<Pair<RsmState, Symbol>, RsmState>?) {
+    /**
+     * Allows to rebuild nonterminals of derivation trees, skipped because of inlining:
+     * edge from copy of inlined box has origin in box of inlined nonterminal (the innermost one, if calls were nested)
+     * @param state - source state of edge, e.g. start of RSM range of terminal derivation tree
+     * @param symbol - symbol of edge
+     * @return source state of the same edge in source RSM, null if mapping isn't kept
+     */
+    fun getOrigin(state: RsmState, symbol: Symbol): RsmState? = origins?.get(state to symbol)
+}
+
+/**
+ * Builds copy of RSM, where calls of small non-recursive nonterminals are replaced with copies of their boxes,
+ * so no GSS nodes and nonterminal derivation trees are created for them.
+ * Call `q -N-> p` is inlined if boxes stay deterministic: start state of N isn't final and has no incoming edges,
+ * final states of N have no outgoing edges, and q has no other edges via symbols of N's start state.
+ * Calls from box of accepting nonterminal are kept
+ * @param startState - starting state of accepting nonterminal in RSM
+ * @param maxBoxSize - max count of states in box of inlined nonterminal, including already inlined calls
+ * @param keepOrigins - keep mapping from new edges to edges of source RSM, see [InlinedRsm.getOrigin]
+ */
+fun inlineRsm(startState: RsmState, maxBoxSize: Int = 8, keepOrigins: Boolean = false): InlinedRsm {
+    val origins = HashMap<Pair<RsmState, Symbol>, RsmState>()
+    val newStart = copyRsm(startState, origins)
+    val nonterminals = getAllStates(newStart).mapTo(LinkedHashSet()) { it.nonterminal }
+    val nextIds = HashMap<Nonterminal, Int>()
+    for (nonterminal in nonterminals) {
+        nextIds[nonterminal] = nonterminal.getStates().maxOf { it.numId } + 1
+    }
+    val recursive = nonterminals.filterTo(HashSet()) { isRecursive(it) }
+
+    fun isInlinable(call: RsmEdge, from: RsmState): Boolean {
+        val callee = call.symbol as Nonterminal
+        if (callee in recursive || from.nonterminal == newStart.nonterminal) return false
+        val calleeStates = callee.getStates().toList()
+        val calleeStart = callee.startState
+        if (calleeStates.size > maxBoxSize || calleeStart.isFinal) return false
+        if (calleeStates.any { state -> state.outgoingEdges.any { it.destinationState == calleeStart } }) return false
+        if (calleeStates.any { it.isFinal && it.outgoingEdges.isNotEmpty() }) return false
+        val calleeSymbols = calleeStart.outgoingEdges.mapTo(HashSet()) { it.symbol }
+        return from.outgoingEdges.none { it !== call && it.symbol in calleeSymbols }
+    }
+
+    // callees are processed before callers, so inlined boxes already contain inlined calls
+    for (nonterminal in getCalleesFirst(newStart.nonterminal)) {
+        for (state in nonterminal.getStates().toList()) {
+            for (call in state.nonterminalEdgesStorage.toList()) {
+                if (!isInlinable(call, state)) continue
+                state.nonterminalEdgesStorage.remove(call)
+                inlineCall(state, call, nextIds, origins)
+            }
+        }
+    }
+    return InlinedRsm(newStart, if (keepOrigins) origins else null)
+}
+
+/**
+ * Adds copy of callee box between state and destination of call
+ */
+private fun inlineCall(
+    state: RsmState,
+    call: RsmEdge,
+    nextIds: MutableMap<Nonterminal, Int>,
+    origins: MutableMap<Pair<RsmState, Symbol>, RsmState>
+) {
+    val callee = call.symbol as Nonterminal
+    val copies = HashMap<RsmState, RsmState>()
+    fun copy(calleeState: RsmState): RsmState = copies.getOrPut(calleeState) {
+        when {
+            calleeState == callee.startState -> state
+            calleeState.isFinal -> call.destinationState
+            else -> {
+                val id = nextIds.getValue(state.nonterminal)
+                nextIds[state.nonterminal] = id + 1
+                RsmState(state.nonterminal, numId = id)
+            }
+        }
+    }
+    for (calleeState in callee.getStates()) {
+        val from = copy(calleeState)
+        for ((symbol, destinationState) in calleeState.outgoingEdges) {
+            from.addEdge(symbol, copy(destinationState))
+            origins[from to symbol] = origins.getValue(calleeState to symbol)
+        }
+    }
+}
+
+/**
+ * Copies all boxes, reachable from startState
+ */
+private fun copyRsm(startState: RsmState, origins: MutableMap<Pair<RsmState, Symbol>, RsmState>): RsmState {
+    val nonterminals = HashMap<Nonterminal, Nonterminal>()
+    val states = HashMap<RsmState, RsmState>()
+    fun copy(nonterminal: Nonterminal): Nonterminal = nonterminals.getOrPut(nonterminal) { Nonterminal(nonterminal.name) }
+    fun copy(state: RsmState): RsmState = states.getOrPut(state) {
+        val newState = RsmState(copy(state.nonterminal), state.isStart, state.isFinal, state.numId)
+        if (state.isStart) {
+            newState.nonterminal.startState = newState
+        }
+        newState
+    }
+    for (state in getAllStates(startState)) {
+        val newState = copy(state)
+        for ((symbol, destinationState) in state.outgoingEdges) {
+            val newSymbol = if (symbol is Nonterminal) copy(symbol) else symbol
+            newState.addEdge(newSymbol, copy(destinationState))
+            origins[newState to newSymbol] = state
+        }
+    }
+    return copy(startState)
+}
+
+/**
+ * @return nonterminals called from box of given one
+ */
+internal fun getCallees(nonterminal: Nonterminal): Set<Nonterminal> {
+    return nonterminal.getStates().flatMapTo(LinkedHashSet()) { state ->
+        state.nonterminalEdgesStorage.map { it.symbol as Nonterminal }
+    }
+}
+
+/**
+ * @return true if nonterminal can call itself, maybe via other nonterminals
+ */
+internal fun isRecursive(nonterminal: Nonterminal): Boolean {
+    val visited = HashSet<Nonterminal>()
+    val queue = ArrayDeque(getCallees(nonterminal))
+    while (queue.isNotEmpty()) {
+        val callee = queue.removeFirst()
+        if (callee == nonterminal) return true
+        if (visited.add(callee)) {
+            queue.addAll(getCallees(callee))
+        }
+    }
+    return false
+}
+
+/**
+ * @return nonterminals, reachable from given one, in post-order of calls
+ */
+private fun getCalleesFirst(nonterminal: Nonterminal): List<Nonterminal> {
+    val order = ArrayList<Nonterminal>()
+    val visited = hashSetOf(nonterminal)
+    // pairs of nonterminal and its callees to visit
+    val stack = ArrayDeque(listOf(nonterminal to getCallees(nonterminal).iterator()))
+    while (stack.isNotEmpty()) {
+        val (current, callees) = stack.last()
+        if (!callees.hasNext()) {
+            stack.removeLast()
+            order.add(current)
+            continue
+        }
+        val callee = callees.next()
+        if (visited.add(callee)) {
+            stack.addLast(callee to getCallees(callee).iterator())
+        }
+    }
+    return order
+}
@@ -0,0 +1,129 @@
+package org.ucfs.rsm
+
+import org.ucfs.rsm.symbol.Nonterminal
+import org.ucfs.rsm.symbol.Symbol
+
+/**
+ * @return count of states, reachable from startState, including boxes of called nonterminals
+ */
+fun getStatesCount(startState: RsmState): Int = getAllStates(startState).size
+
+/**
+ * Builds copy of RSM, where equivalent states of each box are merged: states are equivalent,
+ * if the same sequences of terminals and nonterminals lead from them to final states.
+ * States of different boxes are never merged, because box defines nonterminal of derivation tree.
+ * Equivalence classes are found by Hopcroft's partition refinement, nonterminal edges are treated as symbols
+ * @param startState - starting state of accepting nonterminal in RSM
+ * @return starting state of minimized RSM
+ * @throws RsmException if some state has several edges via the same symbol
+ */
+fun minimizeRsm(startState: RsmState): RsmState {
+    val states = getAllStates(startState).toList()
+    val stateIds = HashMap<RsmState, Int>()
+    states.forEachIndexed { id, state -> stateIds[state] = id }
+    // missing transitions lead to additional sink state
+    val sink = states.size
+    val symbolIds = HashMap<Symbol, Int>()
+    for (state in states) {
+        for (edge in state.outgoingEdges) {
+            symbolIds.getOrPut(edge.symbol) { symbolIds.size }
+        }
+    }
+    // sources of transitions into each state via each symbol
+    val inverse = Array(symbolIds.size) { Array(states.size + 1) { ArrayList<Int>(0) } }
+    for ((id, state) in states.withIndex()) {
+        val symbolsWithEdge = BooleanArray(symbolIds.size)
+        for (edge in state.outgoingEdges) {
+            val symbol = symbolIds.getValue(edge.symbol)
+            if (symbolsWithEdge[symbol]) {
+                throw RsmException("Can't minimize nondeterministic box: several edges via ${edge.symbol} from ${state.id}")
+            }
+            symbolsWithEdge[symbol] = true
+            inverse[symbol][stateIds.getValue(edge.destinationState)].add(id)
+        }
+        for (symbol in symbolsWithEdge.indices) {
+            if (!symbolsWithEdge[symbol]) {
+                inverse[symbol][sink].add(id)
+            }
+        }
+    }
+    for (symbol in inverse.indices) {
+        inverse[symbol][sink].add(sink)
+    }
+
+    val blocks = ArrayList<MutableSet<Int>>()
+    val blockOf = IntArray(states.size + 1)
+    states.indices.groupBy { states[it].nonterminal to states[it].isFinal }.values.forEach {
+        it.forEach { id -> blockOf[id] = blocks.size }
+        blocks.add(it.toHashSet())
+    }
+    blockOf[sink] = blocks.size
+    blocks.add(hashSetOf(sink))
+
+    val inWorklist = HashSet<Int>(blocks.indices.toList())
+    val worklist = ArrayDeque(blocks.indices.toList())
+    while (worklist.isNotEmpty()) {
+        val splitter = worklist.removeFirst()
+        inWorklist.remove(splitter)
+        val splitterStates = blocks[splitter].toList()
+        for (symbol in inverse.indices) {
+            // states of each block, which go to splitter via symbol
+            val predecessors = HashMap<Int, MutableSet<Int>>()
+            for (target in splitterStates) {
+                for (source in inverse[symbol][target]) {
+                    predecessors.getOrPut(blockOf[source]) { HashSet() }.add(source)
+                }
+            }
+            for ((block, moved) in predecessors) {
+                if (moved.size == blocks[block].size) continue
+                blocks[block].removeAll(moved)
+                val newBlock = blocks.size
+                blocks.add(moved)
+                moved.forEach { blockOf[it] = newBlock }
+                if (block in inWorklist || blocks[block].size > moved.size) {
+                    worklist.addLast(newBlock)
+                    inWorklist.add(newBlock)
+                } else {
+                    worklist.addLast(block)
+                    inWorklist.add(block)
+                }
+            }
+        }
+    }
+
+    return buildMergedRsm(startState, states, blockOf, stateIds)
+}
+
+/**
+ * Builds RSM with one state for each block of equivalent states, start state of box represents its block
+ */
+private fun buildMergedRsm(
+    startState: RsmState, states: List<RsmState>, blockOf: IntArray, stateIds: Map<RsmState, Int>
+): RsmState {
+    val representatives = HashMap<Int, RsmState>()
+    for (state in states) {
+        val block = blockOf[stateIds.getValue(state)]
+        if (state.isStart || block !in representatives) {
+            representatives[block] = state
+        }
+    }
+    val copies = HashMap<Nonterminal, Nonterminal>()
+    val newStates = HashMap<Int, RsmState>()
+    fun copy(nonterminal: Nonterminal): Nonterminal = copies.getOrPut(nonterminal) { Nonterminal(nonterminal.name) }
+    fun copy(state: RsmState): RsmState = newStates.getOrPut(blockOf[stateIds.getValue(state)]) {
+        val representative = representatives.getValue(blockOf[stateIds.getValue(state)])
+        RsmState(copy(representative.nonterminal), representative.isStart, representative.isFinal, representative.numId)
+    }
+
+    for (representative in representatives.values) {
+        val newState = copy(representative)
+        if (representative.isStart) {
+            newState.nonterminal.startState = newState
+        }
+        for ((symbol, destinationState) in representative.outgoingEdges) {
+            val newSymbol = if (symbol is Nonterminal) copy(symbol) else symbol
+            newState.addEdge(newSymbol, copy(destinationState))
+        }
+    }
+    return copy(startState)
+}
@@ -0,0 +1,85 @@
+package org.ucfs.rsm
+
+import org.ucfs.rsm.symbol.ITerminal
+import org.ucfs.rsm.symbol.Nonterminal
+
+/**
+ * Builds copy of RSM without paths, which can't be read in input with given alphabet:
+ * terminal edges with other terminals, edges to nonterminals which become unproductive,
+ * and states which aren't on any path from start to final state of their box.
+ * Box of starting nonterminal is kept even if it becomes empty
+ * @param startState - starting state of accepting nonterminal in RSM
+ * @param alphabet - terminals of input, e.g. [org.ucfs.input.getLabelAlphabet]
+ * @return starting state of pruned RSM
+ */
+fun pruneRsm(startState: RsmState, alphabet: Set<ITerminal>): RsmState {
+    val states = getAllStates(startState)
+    val live = getLiveStates(states, alphabet)
+    val productive = live.filter { it.isStart }.mapTo(HashSet()) { it.nonterminal }
+
+    fun isKept(edge: RsmEdge, from: RsmState): Boolean {
+        if (edge.destinationState !in live) return false
+        return when (val symbol = edge.symbol) {
+            is Nonterminal -> symbol in productive || from.nonterminal == startState.nonterminal
+            else -> symbol in alphabet
+        }
+    }
+
+    val copies = HashMap<Nonterminal, Nonterminal>()
+    val newStates = HashMap<RsmState, RsmState>()
+    fun copy(nonterminal: Nonterminal): Nonterminal = copies.getOrPut(nonterminal) { Nonterminal(nonterminal.name) }
+    fun copy(state: RsmState): RsmState = newStates.getOrPut(state) {
+        RsmState(copy(state.nonterminal), state.isStart, state.isFinal, state.numId)
+    }
+
+    val queue = ArrayDeque(listOf(startState))
+    val visited = hashSetOf(startState)
+    while (queue.isNotEmpty()) {
+        val state = queue.removeFirst()
+        val newState = copy(state)
+        if (state.isStart) {
+            newState.nonterminal.startState = newState
+        }
+        for (edge in state.outgoingEdges) {
+            if (!isKept(edge, state)) continue
+            val symbol = edge.symbol
+            if (symbol is Nonterminal) {
+                newState.addEdge(copy(symbol), copy(edge.destinationState))
+                if (visited.add(symbol.startState)) {
+                    queue.addLast(symbol.startState)
+                }
+            } else {
+                newState.addEdge(symbol, copy(edge.destinationState))
+            }
+            if (visited.add(edge.destinationState)) {
+                queue.addLast(edge.destinationState)
+            }
+        }
+    }
+    return copy(startState)
+}
+
+/**
+ * @return states, from which final state of their box can be reached by reading terminals of alphabet
+ */
+private fun getLiveStates(states: Set<RsmState>, alphabet: Set<ITerminal>): Set<RsmState> {
+    val live = states.filterTo(HashSet()) { it.isFinal }
+    var changed = true
+    while (changed) {
+        changed = false
+        for (state in states) {
+            if (state in live) continue
+            val isLive = state.outgoingEdges.any { (symbol, destinationState) ->
+                destinationState in live && when (symbol) {
+                    is Nonterminal -> symbol.startState in live
+                    else -> symbol in alphabet
+                }
+            }
+            if (isLive) {
+                live.add(state)
+                changed = true
+            }
+        }
+    }
+    return live
+}
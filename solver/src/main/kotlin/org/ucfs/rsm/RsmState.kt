@@ -17,10 +17,24 @@ data class RsmState(
     val nonterminal: Nonterminal,
     val isStart: Boolean = false,
     val isFinal: Boolean = false,
-    var numId: Int = nonterminal.getNextRsmStateId()
+    val numId: Int = nonterminal.getNextRsmStateId()
 ) {
     val id: String = "${nonterminal.name}_${(numId)}"
 
+    /**
+     * States are keys of descriptors, GSS nodes and derivation trees, so hash is computed once
+     */
+    private val hash = ((nonterminal.hashCode() * 31 + isStart.hashCode()) * 31 + isFinal.hashCode()) * 31 + numId
+
+    override fun hashCode(): Int = hash
+
+    /**
+     * Compiled RSM, which contains this state, with id of state in it. Set by the last compilation
+     */
+    internal var compiledRsm: CompiledRsm? = null
+
+    internal var compiledId = -1
+
     val outgoingEdges
         get() = terminalEdgesStorage.plus(nonterminalEdgesStorage)
 
@@ -28,6 +42,16 @@ data class RsmState(
 
     val nonterminalEdgesStorage = ArrayList<RsmEdge>()
 
+    /**
+     * The first edge for each terminal, filled by [addEdge]
+     */
+    private val terminalEdgesIndex = HashMap<ITerminal, RsmEdge>()
+
+    /**
+     * @return edge from current state via given terminal, null if there is no such edge
+     */
+    fun getTerminalEdge(terminal: ITerminal?): RsmEdge? = terminalEdgesIndex[terminal]
+
 
     /**
      * Adds edge from current rsmState to given destinationState via given symbol, terminal or nonterminal
@@ -36,7 +60,11 @@ data class RsmState(
      */
     fun addEdge(symbol: Symbol, destinationState: RsmState) {
         when (symbol) {
-            is ITerminal -> terminalEdgesStorage.add(RsmEdge(symbol, destinationState))
+            is ITerminal -> {
+                val edge = RsmEdge(symbol, destinationState)
+                terminalEdgesStorage.add(edge)
+                terminalEdgesIndex.putIfAbsent(symbol, edge)
+            }
             is Nonterminal -> nonterminalEdgesStorage.add(RsmEdge(symbol, destinationState))
             else -> throw RsmException("Unsupported type of symbol")
         }
@@ -66,10 +94,10 @@ data class RsmState(
             for (symbol in alphabet) {
                 val newState = regexp.derive(symbol)
                 if (newState !is Empty) {
-                    if (!regexpToRsmState.containsKey(newState)) {
+                    val destinationState = regexpToRsmState.getOrPut(newState) {
                         regexpToProcess.add(newState)
+                        getNewState(newState)
                     }
-                    val destinationState = regexpToRsmState.getOrPut(newState) { getNewState(newState) }
 
                     when (symbol) {
                         is ITerminal -> {
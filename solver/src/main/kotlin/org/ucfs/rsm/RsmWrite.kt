@@ -8,7 +8,7 @@ import java.nio.file.Files
 import java.nio.file.Path
 import java.nio.file.Paths
 
-private fun getAllStates(startState: RsmState): HashSet<RsmState> {
+internal fun getAllStates(startState: RsmState): HashSet<RsmState> {
     val states: HashSet<RsmState> = HashSet()
     val queue = ArrayDeque(listOf(startState))
     while (!queue.isEmpty()) {
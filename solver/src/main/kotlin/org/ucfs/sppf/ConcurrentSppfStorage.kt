@@ -0,0 +1,16 @@
+package org.ucfs.sppf
+
+import org.ucfs.sppf.node.RangeSppfNode
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * Thread-safe derivation trees storage
+ * @param InputEdgeType - type of vertex in input graph
+ */
+class ConcurrentSppfStorage<InputEdgeType> : SppfStorage<InputEdgeType>(ConcurrentHashMap()) {
+    override fun addChild(node: RangeSppfNode<InputEdgeType>, child: RangeSppfNode<InputEdgeType>) {
+        synchronized(node) {
+            super.addChild(node, child)
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package org.ucfs.sppf
+
+import org.ucfs.rsm.symbol.ITerminal
+import org.ucfs.sppf.node.InputRange
+import org.ucfs.sppf.node.NonterminalType
+import org.ucfs.sppf.node.Range
+import org.ucfs.sppf.node.RangeSppfNode
+import org.ucfs.sppf.node.TerminalType
+
+/**
+ * Derivation trees storage, which remembers parents of each node,
+ * so nodes derived through removed input edge can be found and deleted
+ * @param InputEdgeType - type of vertex in input graph
+ */
+class DecrementalSppfStorage<InputEdgeType> : SppfStorage<InputEdgeType>() {
+    private val parents = HashMap<RangeSppfNode<InputEdgeType>, ArrayList<RangeSppfNode<InputEdgeType>>>()
+
+    override fun addChild(node: RangeSppfNode<InputEdgeType>, child: RangeSppfNode<InputEdgeType>) {
+        if (!node.children.contains(child)) {
+            node.children.add(child)
+            parents.getOrPut(child) { ArrayList() }.add(node)
+        }
+    }
+
+    /**
+     * Deletes terminal node and all nodes, which have no derivation without it, in delete and rederive manner:
+     * all nodes above terminal one are suspected, then those having derivation from not suspected nodes
+     * are restored. Cyclic derivations are not enough to restore node
+     * @return deleted nodes
+     */
+    fun removeTerminal(input: InputRange<InputEdgeType>, terminal: ITerminal): Set<RangeSppfNode<InputEdgeType>> {
+        val terminalNode = createdSppfNodes[RangeSppfNode(input, null, TerminalType(terminal))] ?: return emptySet()
+
+        val suspected = HashSet<RangeSppfNode<InputEdgeType>>()
+        val queue = ArrayDeque(listOf(terminalNode))
+        while (queue.isNotEmpty()) {
+            val node = queue.removeFirst()
+            if (suspected.add(node)) {
+                queue.addAll(parents[node] ?: emptyList())
+            }
+        }
+
+        val restored = HashSet<RangeSppfNode<InputEdgeType>>()
+        fun isAlive(node: RangeSppfNode<InputEdgeType>) = node !in suspected || node in restored
+        fun hasDerivation(node: RangeSppfNode<InputEdgeType>): Boolean {
+            // range node is alternative of its children, and so is nonterminal node: its children are derivations
+            // of callee, ending in different final states. Intermediate node is concatenation
+            return if (node.type == Range || node.type is NonterminalType) {
+                node.children.any(::isAlive)
+            } else {
+                node.children.all(::isAlive)
+            }
+        }
+        queue.addAll(suspected)
+        queue.remove(terminalNode)
+        while (queue.isNotEmpty()) {
+            val node = queue.removeFirst()
+            if (node !in restored && hasDerivation(node)) {
+                restored.add(node)
+                queue.addAll(parents[node]?.filter { it in suspected && it !in restored } ?: emptyList())
+            }
+        }
+
+        val deleted = suspected.filterTo(HashSet()) { it !in restored }
+        for (node in deleted) {
+            createdSppfNodes.remove(node)
+            for (parent in parents.remove(node) ?: emptyList()) {
+                parent.children.remove(node)
+            }
+            for (child in node.children) {
+                parents[child]?.remove(node)
+            }
+        }
+        return deleted
+    }
+}
@@ -0,0 +1,46 @@
+package org.ucfs.sppf
+
+import org.ucfs.rsm.RsmState
+import org.ucfs.rsm.symbol.ITerminal
+import org.ucfs.sppf.node.*
+
+/**
+ * Storage for recognizer mode. Derivation trees are not built: each matched input range is represented
+ * by single node without RSM range and children. It's enough for descriptors and GSS pops,
+ * which need only reached input positions
+ * @param InputEdgeType - type of vertex in input graph
+ */
+class RecognizerSppfStorage<InputEdgeType> : SppfStorage<InputEdgeType>() {
+    private val ranges = HashMap<InputRange<InputEdgeType>, RangeSppfNode<InputEdgeType>>()
+
+    private fun getRange(input: InputRange<InputEdgeType>): RangeSppfNode<InputEdgeType> {
+        return ranges.getOrPut(input) { RangeSppfNode(input, null, Range) }
+    }
+
+    override fun addNonterminalNode(
+        input: InputRange<InputEdgeType>,
+        rsm: RsmRange,
+        startState: RsmState,
+        childSppf: RangeSppfNode<InputEdgeType>?
+    ): RangeSppfNode<InputEdgeType> = getRange(input)
+
+    override fun addEpsilonNode(
+        input: InputRange<InputEdgeType>,
+        rsmRange: RsmRange,
+        rsmState: RsmState
+    ): RangeSppfNode<InputEdgeType> = getRange(input)
+
+    override fun addNode(
+        input: InputRange<InputEdgeType>, rsm: RsmRange, terminal: ITerminal
+    ): RangeSppfNode<InputEdgeType> = getRange(input)
+
+    override fun addIntermediateNode(
+        leftSubtree: RangeSppfNode<InputEdgeType>,
+        rightSubtree: RangeSppfNode<InputEdgeType>
+    ): RangeSppfNode<InputEdgeType> {
+        if (leftSubtree.type is EmptyType) {
+            return rightSubtree
+        }
+        return getRange(InputRange(leftSubtree.inputRange!!.from, rightSubtree.inputRange!!.to))
+    }
+}
@@ -7,21 +7,33 @@ import org.ucfs.sppf.node.*
 /**
  * @param InputEdgeType - type of vertex in input graph
  */
-open class SppfStorage<InputEdgeType> {
-
+open class SppfStorage<InputEdgeType>(
     /**
      * Collection of created sppfNodes with access and search in O(1) time
      */
-    private val createdSppfNodes: HashMap<RangeSppfNode<InputEdgeType>, RangeSppfNode<InputEdgeType>> = HashMap()
+    protected val createdSppfNodes: MutableMap<RangeSppfNode<InputEdgeType>, RangeSppfNode<InputEdgeType>> = HashMap()
+) {
 
-    private fun addNode(node: RangeSppfNode<InputEdgeType>): RangeSppfNode<InputEdgeType> {
-        return createdSppfNodes.getOrPut(node, { node })
+    /**
+     * @return already created node equal to given one, or given node, if there is no such node yet
+     */
+    protected open fun addNode(node: RangeSppfNode<InputEdgeType>): RangeSppfNode<InputEdgeType> {
+        return createdSppfNodes.putIfAbsent(node, node) ?: node
+    }
+
+    /**
+     * Adds child to the node, if it wasn't added yet
+     */
+    protected open fun addChild(node: RangeSppfNode<InputEdgeType>, child: RangeSppfNode<InputEdgeType>) {
+        if (!node.children.contains(child)) {
+            node.children.add(child)
+        }
     }
 
     /**
      * Add nonterminal node after pop
      */
-    fun addNonterminalNode(
+    open fun addNonterminalNode(
         input: InputRange<InputEdgeType>,
         rsm: RsmRange,
         startState: RsmState,
@@ -31,7 +43,7 @@ open class SppfStorage<InputEdgeType> {
         else addNode(input, rsm, NonterminalType(startState), listOf(childSppf))
     }
 
-    fun addEpsilonNode(
+    open fun addEpsilonNode(
         input: InputRange<InputEdgeType>,
         rsmRange: RsmRange,
         rsmState: RsmState
@@ -44,13 +56,13 @@ open class SppfStorage<InputEdgeType> {
     /**
      * Add temrminal node
      */
-    fun addNode(
+    open fun addNode(
         input: InputRange<InputEdgeType>, rsm: RsmRange, terminal: ITerminal
     ): RangeSppfNode<InputEdgeType> {
         return addNode(input, rsm, TerminalType(terminal))
     }
 
-    fun addIntermediateNode(
+    open fun addIntermediateNode(
         leftSubtree: RangeSppfNode<InputEdgeType>,
         rightSubtree: RangeSppfNode<InputEdgeType>
     ): RangeSppfNode<InputEdgeType> {
@@ -77,13 +89,9 @@ open class SppfStorage<InputEdgeType> {
         val rangeNode = addNode(RangeSppfNode(input, rsm, Range))
         val valueRsm = if (rangeType is TerminalType<*>) null else rsm
         val valueNode = addNode(RangeSppfNode(input, valueRsm, rangeType))
-        if (!rangeNode.children.contains(valueNode)) {
-            rangeNode.children.add(valueNode)
-        }
+        addChild(rangeNode, valueNode)
         for (child in children) {
-            if (!valueNode.children.contains(child)) {
-                valueNode.children.add(child)
-            }
+            addChild(valueNode, child)
         }
         return rangeNode
     }
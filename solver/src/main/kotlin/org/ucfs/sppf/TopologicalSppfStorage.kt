@@ -0,0 +1,25 @@
+package org.ucfs.sppf
+
+import org.ucfs.sppf.node.RangeSppfNode
+
+/**
+ * Derivation trees storage for acyclic inputs, which are handled in topological order.
+ * Nodes are searched by end of their input range, so nodes ending at passed position can be forgotten at once:
+ * new nodes always end at current position or after it. Already created nodes are still reachable from trees
+ * @param InputEdgeType - type of vertex in input graph
+ */
+class TopologicalSppfStorage<InputEdgeType> : SppfStorage<InputEdgeType>() {
+    private val nodesByEnd = HashMap<InputEdgeType, HashMap<RangeSppfNode<InputEdgeType>, RangeSppfNode<InputEdgeType>>>()
+
+    override fun addNode(node: RangeSppfNode<InputEdgeType>): RangeSppfNode<InputEdgeType> {
+        val nodes = nodesByEnd.getOrPut(node.inputRange!!.to) { HashMap() }
+        return nodes.putIfAbsent(node, node) ?: node
+    }
+
+    /**
+     * Forgets nodes ending at given input position, no more such nodes will be created
+     */
+    fun release(input: InputEdgeType) {
+        nodesByEnd.remove(input)
+    }
+}
@@ -0,0 +1,33 @@
+package org.ucfs.utils
+
+import java.util.IdentityHashMap
+
+/**
+ * Assigns dense int ids (0, 1, 2, ...) to values in order of their first appearance
+ * @param identity - compare values by reference, suitable for already interned objects
+ */
+class DenseIdMap<ValueType>(identity: Boolean = false) {
+    private val ids: MutableMap<ValueType, Int> = if (identity) IdentityHashMap() else HashMap()
+
+    private val values = ArrayList<ValueType>()
+
+    val size: Int
+        get() = values.size
+
+    /**
+     * @return id of given value, new one if value met for the first time
+     */
+    fun getId(value: ValueType): Int {
+        return ids.getOrPut(value) {
+            values.add(value)
+            values.size - 1
+        }
+    }
+
+    /**
+     * @return id of given value or -1 if value has no id yet
+     */
+    fun findId(value: ValueType): Int = ids[value] ?: -1
+
+    operator fun get(id: Int): ValueType = values[id]
+}
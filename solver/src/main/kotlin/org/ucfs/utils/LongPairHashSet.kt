@@ -0,0 +1,88 @@
+package org.ucfs.utils
+
+/**
+ * Open-addressing hash set of (Long, Long) keys stored in one flat array, no objects per element.
+ * First component of each key must be non-negative
+ */
+class LongPairHashSet(expectedSize: Int = 16) {
+    private var keys = LongArray(2 * tableSizeFor(expectedSize)).also { it.fill(EMPTY) }
+
+    private var mask = keys.size / 2 - 1
+
+    var size = 0
+        private set
+
+    /**
+     * @return true if key was not in the set before
+     */
+    fun add(first: Long, second: Long): Boolean {
+        if (2 * (size + 1) > mask + 1) {
+            resize()
+        }
+        var slot = hash(first, second) and mask
+        while (keys[2 * slot] != EMPTY) {
+            if (keys[2 * slot] == first && keys[2 * slot + 1] == second) {
+                return false
+            }
+            slot = (slot + 1) and mask
+        }
+        keys[2 * slot] = first
+        keys[2 * slot + 1] = second
+        size++
+        return true
+    }
+
+    fun contains(first: Long, second: Long): Boolean {
+        var slot = hash(first, second) and mask
+        while (keys[2 * slot] != EMPTY) {
+            if (keys[2 * slot] == first && keys[2 * slot + 1] == second) {
+                return true
+            }
+            slot = (slot + 1) and mask
+        }
+        return false
+    }
+
+    fun forEach(action: (Long, Long) -> Unit) {
+        val keys = keys
+        for (i in keys.indices step 2) {
+            if (keys[i] != EMPTY) {
+                action(keys[i], keys[i + 1])
+            }
+        }
+    }
+
+    private fun resize() {
+        val oldKeys = keys
+        keys = LongArray(2 * oldKeys.size).also { it.fill(EMPTY) }
+        mask = keys.size / 2 - 1
+        size = 0
+        for (i in oldKeys.indices step 2) {
+            if (oldKeys[i] != EMPTY) {
+                add(oldKeys[i], oldKeys[i + 1])
+            }
+        }
+    }
+
+    companion object {
+        private const val EMPTY = -1L
+
+        fun tableSizeFor(expectedSize: Int): Int {
+            var size = 16
+            while (size < 2 * expectedSize) {
+                size = size shl 1
+            }
+            return size
+        }
+
+        /**
+         * Murmur3 finalizer over both components
+         */
+        fun hash(first: Long, second: Long): Int {
+            var h = first * -0x61c8864680b583ebL + second
+            h = (h xor (h ushr 33)) * -0xae502812aa7333L
+            h = (h xor (h ushr 33)) * -0x3b314601e57a13adL
+            return (h xor (h ushr 33)).toInt()
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package org.ucfs.utils
+
+private const val SEGMENT_BITS = 14
+private const val SEGMENT_SIZE = 1 shl SEGMENT_BITS
+private const val SEGMENT_MASK = SEGMENT_SIZE - 1
+
+/**
+ * Growable list of ints, stored in fixed-size segments: growth allocates new segment instead of copying stored values
+ */
+class IntSegments {
+    private var segments = arrayOfNulls<IntArray>(16)
+
+    var size = 0
+        private set
+
+    /**
+     * @return index of added value
+     */
+    fun add(value: Int): Int {
+        val segment = size ushr SEGMENT_BITS
+        if (segment == segments.size) {
+            segments = segments.copyOf(segments.size * 2)
+        }
+        val values = segments[segment] ?: IntArray(SEGMENT_SIZE).also { segments[segment] = it }
+        values[size and SEGMENT_MASK] = value
+        return size++
+    }
+
+    operator fun get(index: Int): Int = segments[index ushr SEGMENT_BITS]!![index and SEGMENT_MASK]
+
+    operator fun set(index: Int, value: Int) {
+        segments[index ushr SEGMENT_BITS]!![index and SEGMENT_MASK] = value
+    }
+}
+
+/**
+ * Growable list of references, stored in fixed-size segments like [IntSegments]
+ */
+class ObjectSegments<ValueType> {
+    private var segments = arrayOfNulls<Array<Any?>>(16)
+
+    var size = 0
+        private set
+
+    /**
+     * @return index of added value
+     */
+    fun add(value: ValueType): Int {
+        val segment = size ushr SEGMENT_BITS
+        if (segment == segments.size) {
+            segments = segments.copyOf(segments.size * 2)
+        }
+        val values = segments[segment] ?: arrayOfNulls<Any?>(SEGMENT_SIZE).also { segments[segment] = it }
+        values[size and SEGMENT_MASK] = value
+        return size++
+    }
+
+    @Suppress("UNCHECKED_CAST")
+    operator fun get(index: Int): ValueType = segments[index ushr SEGMENT_BITS]!![index and SEGMENT_MASK] as ValueType
+}
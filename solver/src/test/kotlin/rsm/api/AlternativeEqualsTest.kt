@@ -0,0 +1,46 @@
+package rsm.api
+
+import org.junit.jupiter.api.Test
+import org.ucfs.grammar.combinator.regexp.Regexp
+import org.ucfs.grammar.combinator.regexp.or
+import org.ucfs.rsm.symbol.Term
+import kotlin.test.assertEquals
+import kotlin.test.assertNotEquals
+import kotlin.test.assertTrue
+
+class AlternativeEqualsTest {
+    private fun terms(range: IntRange): List<Regexp> = range.map { Term("t$it") }
+
+    @Test
+    fun testOrderAndGroupingDontMatter() {
+        val (a, b, c) = terms(0..2)
+        assertEquals((a or b) or c, c or (b or a))
+        assertEquals(((a or b) or c).hashCode(), (c or (b or a)).hashCode())
+        // operand, already contained in the other side, is dropped
+        val ab = a or b
+        assertTrue((ab or a) === ab)
+        assertTrue((b or ab) === ab)
+    }
+
+    @Test
+    fun testBranchesOfSharedOperands() {
+        val (a, b, c, d) = terms(0..3)
+        val common = a or b
+        val withC = common or c
+        // common is extended again, its operands must not see c
+        val withD = common or d
+        assertNotEquals(withC, withD)
+        assertEquals(a or b or d, withD)
+        assertEquals(common, b or a)
+        assertTrue((common or c) == withC)
+    }
+
+    @Test
+    fun testLongChains() {
+        val operands = terms(0 until 5000)
+        val leftNested = operands.reduce { acc, operand -> acc or operand }
+        val rightNested = operands.reduceRight { operand, acc -> operand or acc }
+        assertEquals(leftNested, rightNested)
+        assertNotEquals(leftNested, operands.drop(1).reduce { acc, operand -> acc or operand })
+    }
+}
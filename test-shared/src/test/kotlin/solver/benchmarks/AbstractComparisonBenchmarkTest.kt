@@ -0,0 +1,175 @@
+package solver.benchmarks
+
+import org.junit.jupiter.api.Test
+import org.ucfs.descriptors.Descriptor
+import org.ucfs.descriptors.DescriptorsStorage
+import org.ucfs.grammar.combinator.Grammar
+import org.ucfs.input.DotParser
+import org.ucfs.input.InputGraph
+import org.ucfs.input.TerminalInputLabel
+import org.ucfs.parser.IGll
+import org.ucfs.rsm.RsmState
+import solver.benchmarks.BipartitleGrammarTest.BipartitleGrammar
+import solver.benchmarks.CAliasTest.CAliasGrammar
+import solver.benchmarks.LoopDyckGrammarTest.LoopDyckGrammar
+import solver.benchmarks.StrangeDyckGrammarTest.StrangeDyckGrammar
+import java.io.File
+import java.lang.management.ManagementFactory
+import java.lang.management.MemoryType
+import java.nio.file.Path
+import kotlin.io.path.readText
+
+/**
+ * Parser configuration to compare with others
+ */
+class BenchmarkVariant(
+    val name: String,
+    val createGll: (RsmState, InputGraph<Int, TerminalInputLabel>) -> IGll<Int, TerminalInputLabel>
+)
+
+class Measurement(
+    val averageTimeNs: Double,
+    val peakHeapMb: Long,
+    val resultsCount: Int,
+    val averageFirstResultNs: Double?,
+    val details: String?
+)
+
+/**
+ * Outcome of one parsing
+ * @param details - other statistics of parsing to print, e.g. count of descriptors
+ */
+class ParseRun(val resultsCount: Int, val details: String? = null)
+
+/**
+ * Descriptors storage, which counts handled descriptors
+ */
+class CountingDescriptorsStorage : DescriptorsStorage<Int>() {
+    var handledCount = 0
+
+    override fun nextToHandle(): Descriptor<Int>? {
+        return super.nextToHandle()?.also { handledCount++ }
+    }
+}
+
+/**
+ * Runs several parser configurations on the same benchmark inputs and prints time and memory of each one
+ * relative to the first configuration. Each benchmark grammar is compared by its own test
+ */
+abstract class AbstractComparisonBenchmarkTest {
+    val rootPath: Path = Path.of("src", "test", "resources", "benchmarks")
+
+    /**
+     * Parser configurations to compare, the first one is baseline
+     */
+    abstract fun variants(): List<BenchmarkVariant>
+
+    @Test
+    fun loopDyck() {
+        compare(LoopDyckGrammar(), variants())
+    }
+
+    @Test
+    fun bipartitle() {
+        compare(BipartitleGrammar(), variants())
+    }
+
+    @Test
+    fun cAlias() {
+        compare(CAliasGrammar(), variants())
+    }
+
+    @Test
+    fun strangeDyck() {
+        compare(StrangeDyckGrammar(), variants())
+    }
+
+    fun compare(grammar: Grammar, variants: List<BenchmarkVariant>) {
+        val testCasesFolder = File(rootPath.resolve(grammar.name).toUri())
+        if (!testCasesFolder.exists()) {
+            println("Can't find test case for ${grammar.name}")
+            return
+        }
+        for (folder in testCasesFolder.listFiles()!!.filter { it.isDirectory }.sortedBy { it.name }) {
+            val input = folder.toPath().resolve("input.dot").readText()
+            compare("${grammar.name}/${folder.name}", grammar.rsm, { DotParser().parseDot(input) }, variants)
+        }
+    }
+
+    /**
+     * Compares configurations on input, which isn't stored in benchmark resources, e.g. generated one
+     * @param readInput - creates new instance of the same input for each run
+     */
+    fun compare(
+        caseName: String,
+        rsm: RsmState,
+        readInput: () -> InputGraph<Int, TerminalInputLabel>,
+        variants: List<BenchmarkVariant>
+    ) {
+        val runs = System.getProperty("count_for_case")?.toIntOrNull() ?: 10
+        println("\n=== $caseName ===")
+        var baseline: Measurement? = null
+        for (variant in variants) {
+            val measurement = measure(runs) { variant.createGll(rsm, readInput()) }
+            val base = baseline ?: measurement
+            baseline = base
+            val firstResult = measurement.averageFirstResultNs?.let {
+                ", first result: %10.3f ms".format(it / 1_000_000)
+            } ?: ""
+            println(
+                "%-24s results: %6d, average time: %10.3f ms (x%.2f)%s, peak heap: %5d MB%s".format(
+                    variant.name,
+                    measurement.resultsCount,
+                    measurement.averageTimeNs / 1_000_000,
+                    base.averageTimeNs / measurement.averageTimeNs,
+                    firstResult,
+                    measurement.peakHeapMb,
+                    measurement.details?.let { ", $it" } ?: ""
+                )
+            )
+        }
+    }
+
+    /**
+     * If true, each run is followed by separate lazy parsing up to the first result, see [IGll.parseSequence]
+     */
+    open val measureFirstResult: Boolean = false
+
+    /**
+     * Runs parsing once, override to track more details of the run
+     */
+    open fun parse(gll: IGll<Int, TerminalInputLabel>): ParseRun {
+        return ParseRun(gll.parse().size)
+    }
+
+    private fun measure(runs: Int, createGll: () -> IGll<Int, TerminalInputLabel>): Measurement {
+        // warm up
+        var lastRun = parse(createGll())
+        System.gc()
+        val heapPools = ManagementFactory.getMemoryPoolMXBeans().filter { it.type == MemoryType.HEAP }
+        heapPools.forEach { it.resetPeakUsage() }
+        var totalTime = 0L
+        var totalFirstResultTime = 0L
+        repeat(runs) {
+            val gll = createGll()
+            val start = System.nanoTime()
+            val run = parse(gll)
+            totalTime += System.nanoTime() - start
+            lastRun = run
+            if (measureFirstResult) {
+                val lazyGll = createGll()
+                val lazyStart = System.nanoTime()
+                lazyGll.parseSequence().firstOrNull()
+                totalFirstResultTime += System.nanoTime() - lazyStart
+            }
+        }
+        val peak = heapPools.sumOf { it.peakUsage.used } / (1024 * 1024)
+        return Measurement(
+            totalTime.toDouble() / runs,
+            peak,
+            lastRun.resultsCount,
+            if (measureFirstResult) totalFirstResultTime.toDouble() / runs else null,
+            lastRun.details
+        )
+    }
+}
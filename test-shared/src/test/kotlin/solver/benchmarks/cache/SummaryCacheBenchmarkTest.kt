@@ -0,0 +1,79 @@
+package solver.benchmarks.cache
+
+import org.junit.jupiter.api.Test
+import org.ucfs.input.InputGraph
+import org.ucfs.input.TerminalInputLabel
+import org.ucfs.parser.Gll
+import org.ucfs.parser.SummaryCache
+import org.ucfs.rsm.RsmState
+import org.ucfs.rsm.symbol.Term
+import org.ucfs.sppf.RecognizerSppfStorage
+import solver.benchmarks.CountingDescriptorsStorage
+import solver.benchmarks.LoopDyckGrammarTest.LoopDyckGrammar
+import kotlin.random.Random
+
+/**
+ * Measures series of single-source queries from each vertex of the same graph, with and without shared cache
+ */
+class SummaryCacheBenchmarkTest {
+    private fun createRandomGraph(verticesCount: Int): InputGraph<Int, TerminalInputLabel> {
+        val random = Random(42)
+        val input = InputGraph<Int, TerminalInputLabel>()
+        for (vertex in 0 until verticesCount) {
+            input.addVertex(vertex)
+        }
+        for (vertex in 0 until verticesCount) {
+            for (bracket in listOf("(", ")")) {
+                repeat(2) { input.addEdge(vertex, TerminalInputLabel(Term(bracket)), random.nextInt(verticesCount)) }
+            }
+        }
+        return input
+    }
+
+    /**
+     * @param createCache - creates cache for series of queries, null to run queries without cache
+     */
+    private fun measureQueries(
+        name: String, rsm: RsmState, input: InputGraph<Int, TerminalInputLabel>, createCache: () -> SummaryCache<Int>?
+    ) {
+        val runs = System.getProperty("count_for_case")?.toIntOrNull() ?: 10
+        var totalNs = 0L
+        var pairs = 0
+        var descriptors = 0
+        var cache: SummaryCache<Int>? = null
+        // the first series is warm up
+        repeat(runs + 1) { run ->
+            cache = createCache()
+            pairs = 0
+            descriptors = 0
+            val start = System.nanoTime()
+            for (source in input.vertices.sorted()) {
+                input.startVertices.clear()
+                input.addStartVertex(source)
+                val storage = CountingDescriptorsStorage()
+                pairs += Gll.gll(rsm, input, storage, RecognizerSppfStorage(), summaryCache = cache).recognize().size
+                descriptors += storage.handledCount
+            }
+            if (run > 0) {
+                totalNs += System.nanoTime() - start
+            }
+        }
+        println(
+            "%-24s results: %6d, average time: %10.3f ms, handled descriptors: %8d, cached ends: %6s".format(
+                name, pairs, totalNs / runs / 1e6, descriptors, cache?.endsCount ?: "-"
+            )
+        )
+    }
+
+    @Test
+    fun randomGraph() {
+        val rsm = LoopDyckGrammar().rsm
+        for (verticesCount in listOf(20, 40)) {
+            val input = createRandomGraph(verticesCount)
+            println("\n=== LoopDyckGrammar/random graph, $verticesCount vertices, query from each vertex ===")
+            measureQueries("without cache", rsm, input) { null }
+            measureQueries("cache", rsm, input) { SummaryCache(1_000_000) }
+            measureQueries("cache of 64 ends", rsm, input) { SummaryCache(64) }
+        }
+    }
+}
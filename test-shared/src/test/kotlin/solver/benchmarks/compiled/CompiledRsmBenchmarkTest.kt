@@ -0,0 +1,12 @@
+package solver.benchmarks.compiled
+
+import org.ucfs.parser.Gll
+import solver.benchmarks.AbstractComparisonBenchmarkTest
+import solver.benchmarks.BenchmarkVariant
+
+class CompiledRsmBenchmarkTest : AbstractComparisonBenchmarkTest() {
+    override fun variants() = listOf(
+        BenchmarkVariant("object rsm") { rsm, input -> Gll.gll(rsm, input) },
+        BenchmarkVariant("compiled rsm") { rsm, input -> Gll.compiled(rsm, input) },
+    )
+}
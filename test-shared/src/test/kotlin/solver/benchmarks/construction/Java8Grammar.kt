@@ -0,0 +1,547 @@
+package solver.benchmarks.construction
+
+import org.ucfs.grammar.combinator.Grammar
+import org.ucfs.grammar.combinator.regexp.*
+
+/**
+ * Java 8 grammar from the language specification, large enough to measure building of RSM
+ */
+class Java8Grammar : Grammar() {
+    val CompilationUnit by Nt().asStart()
+    val Identifier by Nt()
+    val Literal by Nt()
+    val Type by Nt()
+    val PrimitiveType by Nt()
+    val ReferenceType by Nt()
+    val Annotation by Nt()
+    val NumericType by Nt()
+    val IntegralType by Nt()
+    val FloatingPointType by Nt()
+    val ClassOrInterfaceType by Nt()
+    val TypeVariable by Nt()
+    val ArrayType by Nt()
+    val ClassType by Nt()
+    val InterfaceType by Nt()
+    val TypeArguments by Nt()
+    val Dims by Nt()
+    val TypeParameter by Nt()
+    val TypeParameterModifier by Nt()
+    val TypeBound by Nt()
+    val AdditionalBound by Nt()
+    val TypeArgumentList by Nt()
+    val TypeArgument by Nt()
+    val Wildcard by Nt()
+    val WildcardBounds by Nt()
+    val TypeName by Nt()
+    val PackageOrTypeName by Nt()
+    val ExpressionName by Nt()
+    val AmbiguousName by Nt()
+    val MethodName by Nt()
+    val PackageName by Nt()
+    val Result by Nt()
+    val PackageDeclaration by Nt()
+    val ImportDeclaration by Nt()
+    val TypeDeclaration by Nt()
+    val PackageModifier by Nt()
+    val SingleTypeImportDeclaration by Nt()
+    val TypeImportOnDemandDeclaration by Nt()
+    val SingleStaticImportDeclaration by Nt()
+    val StaticImportOnDemandDeclaration by Nt()
+    val ClassDeclaration by Nt()
+    val InterfaceDeclaration by Nt()
+    val Throws by Nt()
+    val NormalClassDeclaration by Nt()
+    val EnumDeclaration by Nt()
+    val ClassModifier by Nt()
+    val TypeParameters by Nt()
+    val Superclass by Nt()
+    val Superinterfaces by Nt()
+    val ClassBody by Nt()
+    val TypeParameterList by Nt()
+    val InterfaceTypeList by Nt()
+    val ClassBodyDeclaration by Nt()
+    val ClassMemberDeclaration by Nt()
+    val InstanceInitializer by Nt()
+    val StaticInitializer by Nt()
+    val ConstructorDeclaration by Nt()
+    val FieldDeclaration by Nt()
+    val MethodDeclaration by Nt()
+    val FieldModifier by Nt()
+    val UnannType by Nt()
+    val VariableDeclaratorList by Nt()
+    val VariableDeclarator by Nt()
+    val VariableDeclaratorId by Nt()
+    val VariableInitializer by Nt()
+    val Expression by Nt()
+    val ArrayInitializer by Nt()
+    val UnannPrimitiveType by Nt()
+    val UnannReferenceType by Nt()
+    val UnannClassOrInterfaceType by Nt()
+    val UnannTypeVariable by Nt()
+    val UnannArrayType by Nt()
+    val UnannClassType by Nt()
+    val UnannInterfaceType by Nt()
+    val MethodModifier by Nt()
+    val MethodHeader by Nt()
+    val MethodBody by Nt()
+    val MethodDeclarator by Nt()
+    val FormalParameterList by Nt()
+    val ReceiverParameter by Nt()
+    val FormalParameters by Nt()
+    val LastFormalParameter by Nt()
+    val FormalParameter by Nt()
+    val VariableModifier by Nt()
+    val ExceptionTypeList by Nt()
+    val ExceptionType by Nt()
+    val Block by Nt()
+    val ConstructorModifier by Nt()
+    val ConstructorDeclarator by Nt()
+    val ConstructorBody by Nt()
+    val SimpleTypeName by Nt()
+    val ExplicitConstructorInvocation by Nt()
+    val EnumBody by Nt()
+    val EnumConstantList by Nt()
+    val EnumConstant by Nt()
+    val EnumConstantModifier by Nt()
+    val EnumBodyDeclarations by Nt()
+    val BlockStatements by Nt()
+    val ArgumentList by Nt()
+    val Primary by Nt()
+    val NormalInterfaceDeclaration by Nt()
+    val InterfaceModifier by Nt()
+    val ExtendsInterfaces by Nt()
+    val InterfaceBody by Nt()
+    val InterfaceMemberDeclaration by Nt()
+    val ConstantDeclaration by Nt()
+    val ConstantModifier by Nt()
+    val AnnotationTypeDeclaration by Nt()
+    val AnnotationTypeBody by Nt()
+    val AnnotationTypeMemberDeclaration by Nt()
+    val AnnotationTypeElementDeclaration by Nt()
+    val DefaultValue by Nt()
+    val NormalAnnotation by Nt()
+    val ElementValuePairList by Nt()
+    val ElementValuePair by Nt()
+    val ElementValue by Nt()
+    val ElementValueArrayInitializer by Nt()
+    val ElementValueList by Nt()
+    val MarkerAnnotation by Nt()
+    val SingleElementAnnotation by Nt()
+    val InterfaceMethodDeclaration by Nt()
+    val AnnotationTypeElementModifier by Nt()
+    val ConditionalExpression by Nt()
+    val VariableInitializerList by Nt()
+    val BlockStatement by Nt()
+    val LocalVariableDeclarationStatement by Nt()
+    val LocalVariableDeclaration by Nt()
+    val Statement by Nt()
+    val StatementNoShortIf by Nt()
+    val StatementWithoutTrailingSubstatement by Nt()
+    val EmptyStatement by Nt()
+    val LabeledStatement by Nt()
+    val LabeledStatementNoShortIf by Nt()
+    val ExpressionStatement by Nt()
+    val StatementExpression by Nt()
+    val IfThenStatement by Nt()
+    val IfThenElseStatement by Nt()
+    val IfThenElseStatementNoShortIf by Nt()
+    val AssertStatement by Nt()
+    val SwitchStatement by Nt()
+    val SwitchBlock by Nt()
+    val SwitchBlockStatementGroup by Nt()
+    val SwitchLabels by Nt()
+    val SwitchLabel by Nt()
+    val EnumConstantName by Nt()
+    val WhileStatement by Nt()
+    val WhileStatementNoShortIf by Nt()
+    val DoStatement by Nt()
+    val InterfaceMethodModifier by Nt()
+    val ForStatement by Nt()
+    val ForStatementNoShortIf by Nt()
+    val BasicForStatement by Nt()
+    val BasicForStatementNoShortIf by Nt()
+    val ForInit by Nt()
+    val ForUpdate by Nt()
+    val StatementExpressionList by Nt()
+    val EnhancedForStatement by Nt()
+    val EnhancedForStatementNoShortIf by Nt()
+    val BreakStatement by Nt()
+    val ContinueStatement by Nt()
+    val ReturnStatement by Nt()
+    val ThrowStatement by Nt()
+    val SynchronizedStatement by Nt()
+    val TryStatement by Nt()
+    val Catches by Nt()
+    val CatchClause by Nt()
+    val CatchFormalParameter by Nt()
+    val CatchType by Nt()
+    val Finally by Nt()
+    val TryWithResourcesStatement by Nt()
+    val ResourceSpecification by Nt()
+    val ResourceList by Nt()
+    val Resource by Nt()
+    val PrimaryNoNewArray by Nt()
+    val ClassLiteral by Nt()
+    val classOrInterfaceTypeToInstantiate by Nt()
+    val UnqualifiedClassInstanceCreationExpression by Nt()
+    val ClassInstanceCreationExpression by Nt()
+    val FieldAccess by Nt()
+    val TypeArgumentsOrDiamond by Nt()
+    val ArrayAccess by Nt()
+    val MethodInvocation by Nt()
+    val MethodReference by Nt()
+    val ArrayCreationExpression by Nt()
+    val DimExprs by Nt()
+    val DimExpr by Nt()
+    val LambdaExpression by Nt()
+    val LambdaParameters by Nt()
+    val InferredFormalParameterList by Nt()
+    val LambdaBody by Nt()
+    val AssignmentExpression by Nt()
+    val Assignment by Nt()
+    val LeftHandSide by Nt()
+    val AssignmentOperator by Nt()
+    val ConditionalOrExpression by Nt()
+    val ConditionalAndExpression by Nt()
+    val InclusiveOrExpression by Nt()
+    val ExclusiveOrExpression by Nt()
+    val AndExpression by Nt()
+    val EqualityExpression by Nt()
+    val RelationalExpression by Nt()
+    val ShiftExpression by Nt()
+    val AdditiveExpression by Nt()
+    val MultiplicativeExpression by Nt()
+    val PreIncrementExpression by Nt()
+    val PreDecrementExpression by Nt()
+    val UnaryExpressionNotPlusMinus by Nt()
+    val UnaryExpression by Nt()
+    val PostfixExpression by Nt()
+    val PostIncrementExpression by Nt()
+    val PostDecrementExpression by Nt()
+    val CastExpression by Nt()
+    val ConstantExpression by Nt()
+
+    init {
+        Identifier /= Java8Token.ID
+
+        Literal /= Java8Token.INTEGERLIT or Java8Token.FLOATINGLIT or Java8Token.BOOLEANLIT or
+                Java8Token.CHARLIT or Java8Token.STRINGLIT or Java8Token.NULLLIT
+
+        /**
+         * Productions from §4 (Types, Values, and Variables)
+         */
+        Type /= PrimitiveType or ReferenceType
+        PrimitiveType /= Many(Annotation) * NumericType or Many(Annotation) * Java8Token.BOOLEAN
+        NumericType /= IntegralType or FloatingPointType
+        IntegralType /= Java8Token.BYTE or Java8Token.SHORT or Java8Token.INT or Java8Token.LONG or Java8Token.CHAR
+        FloatingPointType /= Java8Token.FLOAT or Java8Token.DOUBLE
+        ReferenceType /= ClassOrInterfaceType or TypeVariable or ArrayType
+        ClassOrInterfaceType /= ClassType or InterfaceType
+        ClassType /= Many(Annotation) * Identifier * Option(TypeArguments) or
+                ClassOrInterfaceType * Java8Token.DOT * Many(Annotation) * Identifier * Option(TypeArguments)
+        InterfaceType /= ClassType
+        TypeVariable /= Many(Annotation) * Identifier
+        ArrayType /= PrimitiveType * Dims or ClassOrInterfaceType * Dims or TypeVariable * Dims
+        Dims /= some(Many(Annotation) * Java8Token.BRACKETLEFT * Java8Token.BRACKETRIGHT)
+        TypeParameter /= Many(TypeParameterModifier) * Identifier * Option(TypeBound)
+        TypeParameterModifier /= Annotation
+        TypeBound /= Java8Token.EXTENDS * TypeVariable or Java8Token.EXTENDS * ClassOrInterfaceType * Many(AdditionalBound)
+        AdditionalBound /= Java8Token.ANDBIT * InterfaceType
+        TypeArguments /= Java8Token.LT * TypeArgumentList * Java8Token.GT
+        TypeArgumentList /= TypeArgument * Many(Java8Token.COMMA * TypeArgument)
+        TypeArgument /= ReferenceType or Wildcard
+        Wildcard /= Many(Annotation) * Java8Token.QUESTIONMARK * Option(WildcardBounds)
+        WildcardBounds /= Java8Token.EXTENDS * ReferenceType or Java8Token.SUPER * ReferenceType
+
+        /**
+         * Productions from §6 (Names)
+         */
+
+        TypeName /= Identifier or PackageOrTypeName * Java8Token.DOT * Identifier
+        PackageOrTypeName /= Identifier or PackageOrTypeName * Java8Token.DOT * Identifier
+        ExpressionName /= Identifier or AmbiguousName * Java8Token.DOT * Identifier
+        MethodName /= Identifier
+        PackageName /= Identifier or PackageName * Java8Token.DOT * Identifier
+        AmbiguousName /= Identifier or AmbiguousName * Java8Token.DOT * Identifier
+
+        /**
+         * Productions from §7 (Packages)
+         */
+
+        CompilationUnit /= Option(PackageDeclaration) * Many(ImportDeclaration) * Many(TypeDeclaration)
+        PackageDeclaration /= Many(PackageModifier) * Java8Token.PACKAGE * Identifier * Many(Java8Token.DOT * Identifier) * Java8Token.SEMICOLON
+        PackageModifier /= Annotation
+        ImportDeclaration /= SingleTypeImportDeclaration or TypeImportOnDemandDeclaration or
+                SingleStaticImportDeclaration or StaticImportOnDemandDeclaration
+        SingleTypeImportDeclaration /= Java8Token.IMPORT * TypeName * Java8Token.SEMICOLON
+        TypeImportOnDemandDeclaration /= Java8Token.IMPORT * PackageOrTypeName * Java8Token.DOT * Java8Token.STAR * Java8Token.SEMICOLON
+        SingleStaticImportDeclaration /= Java8Token.IMPORT * Java8Token.STATIC * TypeName * Java8Token.DOT * Identifier * Java8Token.SEMICOLON
+        StaticImportOnDemandDeclaration /= Java8Token.IMPORT * Java8Token.STATIC * TypeName * Java8Token.DOT * Java8Token.STAR * Java8Token.SEMICOLON
+        TypeDeclaration /= ClassDeclaration or InterfaceDeclaration or Java8Token.SEMICOLON
+
+        /**
+         * Productions from §8 (Classes)
+         */
+
+        ClassDeclaration /= NormalClassDeclaration or EnumDeclaration
+        NormalClassDeclaration /= Many(ClassModifier) * Java8Token.CLASS * Identifier *
+                Option(TypeParameters) * Option(Superclass) * Option(Superinterfaces) * ClassBody
+        ClassModifier /= Annotation or Java8Token.PUBLIC or Java8Token.PROTECTED or Java8Token.PRIVATE or
+                Java8Token.ABSTRACT or Java8Token.STATIC or Java8Token.FINAL or Java8Token.STRICTFP
+        TypeParameters /= Java8Token.LT * TypeParameterList * Java8Token.GT
+        TypeParameterList /= TypeParameter  * Many(Java8Token.COMMA * TypeParameter)
+        Superclass /= Java8Token.EXTENDS * ClassType
+        Superinterfaces /= Java8Token.IMPLEMENTS * InterfaceTypeList
+        InterfaceTypeList /= InterfaceType  * Many(Java8Token.COMMA * InterfaceType)
+        ClassBody /= Java8Token.CURLYLEFT * Many(ClassBodyDeclaration) * Java8Token.CURLYRIGHT
+        ClassBodyDeclaration /= ClassMemberDeclaration or InstanceInitializer or StaticInitializer or ConstructorDeclaration
+        ClassMemberDeclaration /= FieldDeclaration or MethodDeclaration or ClassDeclaration or InterfaceDeclaration or Java8Token.SEMICOLON
+        FieldDeclaration /= Many(FieldModifier) * UnannType * VariableDeclaratorList * Java8Token.SEMICOLON
+        FieldModifier /= Annotation or Java8Token.PUBLIC or Java8Token.PROTECTED or Java8Token.PRIVATE or Java8Token.STATIC or
+                Java8Token.FINAL or Java8Token.TRANSIENT or Java8Token.VOLATILE
+        VariableDeclaratorList /= VariableDeclarator * Many(Java8Token.COMMA * VariableDeclarator)
+        VariableDeclarator /= VariableDeclaratorId * Option(Java8Token.ASSIGN * VariableInitializer)
+        VariableDeclaratorId /= Identifier * Option(Dims)
+        VariableInitializer /= Expression or ArrayInitializer
+        UnannType /= UnannPrimitiveType or UnannReferenceType
+        UnannPrimitiveType /= NumericType or Java8Token.BOOLEAN
+        UnannReferenceType /= UnannClassOrInterfaceType or UnannTypeVariable or UnannArrayType
+        UnannClassOrInterfaceType /= UnannClassType or UnannInterfaceType
+        UnannClassType /= Identifier * Option(TypeArguments) or
+                UnannClassOrInterfaceType * Java8Token.DOT * Many(Annotation) * Identifier * Option(TypeArguments)
+        UnannInterfaceType /= UnannClassType
+        UnannTypeVariable /= Identifier
+        UnannArrayType /= UnannPrimitiveType * Dims or UnannClassOrInterfaceType * Dims or UnannTypeVariable * Dims
+        MethodDeclaration /= Many(MethodModifier) * MethodHeader * MethodBody
+        MethodModifier /= Annotation or Java8Token.PUBLIC or Java8Token.PROTECTED or Java8Token.PRIVATE or Java8Token.ABSTRACT or
+                Java8Token.STATIC or Java8Token.FINAL or Java8Token.SYNCHRONIZED or Java8Token.NATIVE or Java8Token.STRICTFP
+        MethodHeader /= Result * MethodDeclarator * Option(Throws) or
+                TypeParameters * Many(Annotation) * Result * MethodDeclarator * Option(Throws)
+        Result /= UnannType or Java8Token.VOID
+        MethodDeclarator /= Identifier * Java8Token.PARENTHLEFT * Option(FormalParameterList) * Java8Token.PARENTHRIGHT * Option(Dims)
+        FormalParameterList /= ReceiverParameter or FormalParameters * Java8Token.COMMA * LastFormalParameter or
+                LastFormalParameter
+        FormalParameters /= FormalParameter * Many(Java8Token.COMMA * FormalParameter) or
+                ReceiverParameter * Many(Java8Token.COMMA * FormalParameter)
+        FormalParameter /= Many(VariableModifier) * UnannType * VariableDeclaratorId
+        VariableModifier /= Annotation or Java8Token.FINAL
+        LastFormalParameter /= Many(VariableModifier) * UnannType * Many(Annotation) * Java8Token.ELLIPSIS * VariableDeclaratorId or FormalParameter
+        ReceiverParameter /= Many(Annotation) * UnannType * Option(Identifier * Java8Token.DOT) * Java8Token.THIS
+        Throws /= Java8Token.THROWS * ExceptionTypeList
+        ExceptionTypeList /= ExceptionType * Many(Java8Token.COMMA * ExceptionType)
+        ExceptionType /= ClassType or TypeVariable
+        MethodBody /= Block or Java8Token.SEMICOLON
+        InstanceInitializer /= Block
+        StaticInitializer /= Java8Token.STATIC * Block
+        ConstructorDeclaration /= Many(ConstructorModifier) * ConstructorDeclarator * Option(Throws) * ConstructorBody
+        ConstructorModifier /= Annotation or Java8Token.PUBLIC or Java8Token.PROTECTED or Java8Token.PRIVATE
+        ConstructorDeclarator /= Option(TypeParameters) * SimpleTypeName * Java8Token.PARENTHLEFT * Option(FormalParameterList) * Java8Token.PARENTHRIGHT
+        SimpleTypeName /= Identifier
+        ConstructorBody /= Java8Token.CURLYLEFT * Option(ExplicitConstructorInvocation) * Option(BlockStatements) * Java8Token.CURLYRIGHT
+        ExplicitConstructorInvocation /= Option(TypeArguments) * Java8Token.THIS * Java8Token.PARENTHLEFT * Option(ArgumentList) * Java8Token.PARENTHRIGHT * Java8Token.SEMICOLON or
+                Option(TypeArguments) * Java8Token.SUPER * Java8Token.PARENTHLEFT * Option(ArgumentList) * Java8Token.PARENTHRIGHT * Java8Token.SEMICOLON or
+                ExpressionName * Java8Token.DOT * Option(TypeArguments) * Java8Token.SUPER * Java8Token.PARENTHLEFT * Option(ArgumentList) * Java8Token.PARENTHRIGHT * Java8Token.SEMICOLON or
+                Primary * Java8Token.DOT * Option(TypeArguments) * Java8Token.SUPER * Java8Token.PARENTHLEFT * Option(ArgumentList) * Java8Token.PARENTHRIGHT * Java8Token.SEMICOLON
+        EnumDeclaration /= Many(ClassModifier) * Java8Token.ENUM * Identifier * Option(Superinterfaces) * EnumBody
+        EnumBody /= Java8Token.CURLYLEFT * Option(EnumConstantList) * Option(Java8Token.COMMA) * Option(EnumBodyDeclarations) * Java8Token.CURLYRIGHT
+        EnumConstantList /= EnumConstant * Many(Java8Token.COMMA * EnumConstant)
+        EnumConstant /= Many(EnumConstantModifier) * Identifier * Option(Java8Token.PARENTHLEFT * Option(ArgumentList) * Java8Token.PARENTHRIGHT * Option(ClassBody))
+        EnumConstantModifier /= Annotation
+        EnumBodyDeclarations /= Java8Token.SEMICOLON * Many(ClassBodyDeclaration)
+
+        /**
+         * Productions from §9 (Interfaces)
+         */
+
+        InterfaceDeclaration /= NormalInterfaceDeclaration or AnnotationTypeDeclaration
+        NormalInterfaceDeclaration /=
+            Many(InterfaceModifier) * Java8Token.INTERFACE * Identifier * Option(TypeParameters) * Option(ExtendsInterfaces) * InterfaceBody
+        InterfaceModifier /= Annotation or Java8Token.PUBLIC or Java8Token.PROTECTED or Java8Token.PRIVATE or
+                Java8Token.ABSTRACT or Java8Token.STATIC or Java8Token.STRICTFP
+        ExtendsInterfaces /= Java8Token.EXTENDS * InterfaceTypeList
+        InterfaceBody /= Java8Token.CURLYLEFT * Many(InterfaceMemberDeclaration) * Java8Token.CURLYRIGHT
+        InterfaceMemberDeclaration /= ConstantDeclaration or InterfaceMethodDeclaration or ClassDeclaration or InterfaceDeclaration or Java8Token.SEMICOLON
+        ConstantDeclaration /= Many(ConstantModifier) * UnannType * VariableDeclaratorList * Java8Token.SEMICOLON
+        ConstantModifier /= Annotation or Java8Token.PUBLIC or Java8Token.STATIC or Java8Token.FINAL
+        InterfaceMethodDeclaration /= Many(InterfaceMethodModifier) * MethodHeader * MethodBody
+        InterfaceMethodModifier /= Annotation or Java8Token.PUBLIC or Java8Token.ABSTRACT or Java8Token.DEFAULT or Java8Token.STATIC or Java8Token.STRICTFP
+        AnnotationTypeDeclaration /= Many(InterfaceModifier) * Java8Token.AT * Java8Token.INTERFACE * Identifier * AnnotationTypeBody
+        AnnotationTypeBody /= Java8Token.CURLYLEFT * Many(AnnotationTypeMemberDeclaration) * Java8Token.CURLYRIGHT
+        AnnotationTypeMemberDeclaration /= AnnotationTypeElementDeclaration or ConstantDeclaration or ClassDeclaration or InterfaceDeclaration or Java8Token.SEMICOLON
+        AnnotationTypeElementDeclaration /=
+            Many(AnnotationTypeElementModifier) * UnannType * Identifier * Java8Token.PARENTHLEFT * Java8Token.PARENTHRIGHT * Option(Dims) * Option(DefaultValue) * Java8Token.SEMICOLON
+        AnnotationTypeElementModifier /= Annotation or Java8Token.PUBLIC or Java8Token.ABSTRACT
+        DefaultValue /= Java8Token.DEFAULT * ElementValue
+        Annotation /= NormalAnnotation or MarkerAnnotation or SingleElementAnnotation
+        NormalAnnotation /= Java8Token.AT * TypeName * Java8Token.PARENTHLEFT * Option(ElementValuePairList) * Java8Token.PARENTHRIGHT
+        ElementValuePairList /= ElementValuePair * Many(Java8Token.COMMA * ElementValuePair)
+        ElementValuePair /= Identifier * Java8Token.ASSIGN * ElementValue
+        ElementValue /= ConditionalExpression or ElementValueArrayInitializer or Annotation
+        ElementValueArrayInitializer /= Java8Token.CURLYLEFT * Option(ElementValueList) * Option(Java8Token.COMMA) * Java8Token.CURLYRIGHT
+        ElementValueList /= ElementValue * Many(Java8Token.COMMA * ElementValue)
+        MarkerAnnotation /= Java8Token.AT * TypeName
+        SingleElementAnnotation /= Java8Token.AT * TypeName * Java8Token.PARENTHLEFT * ElementValue * Java8Token.PARENTHRIGHT
+
+        /**
+         * Productions from §10 (Arrays)
+         */
+
+        ArrayInitializer /= Java8Token.CURLYLEFT * Option(VariableInitializerList) * Option(Java8Token.COMMA) * Java8Token.CURLYRIGHT
+        VariableInitializerList /= VariableInitializer * Many(Java8Token.COMMA * VariableInitializer)
+
+        /**
+         * Productions from §14 (Blocks and Statements)
+         */
+
+        Block /= Java8Token.CURLYLEFT * Option(BlockStatements) * Java8Token.CURLYRIGHT
+        BlockStatements /= BlockStatement * Many(BlockStatement)
+        BlockStatement /= LocalVariableDeclarationStatement or ClassDeclaration or Statement
+        LocalVariableDeclarationStatement /= LocalVariableDeclaration * Java8Token.SEMICOLON
+        LocalVariableDeclaration /= Many(VariableModifier) * UnannType * VariableDeclaratorList
+        Statement /= StatementWithoutTrailingSubstatement or LabeledStatement or IfThenStatement or IfThenElseStatement or
+                WhileStatement or ForStatement
+        StatementNoShortIf /= StatementWithoutTrailingSubstatement or LabeledStatementNoShortIf or IfThenElseStatementNoShortIf or
+                WhileStatementNoShortIf or ForStatementNoShortIf
+        StatementWithoutTrailingSubstatement /= Block or EmptyStatement or ExpressionStatement or AssertStatement or
+                SwitchStatement or DoStatement or BreakStatement or ContinueStatement or ReturnStatement or SynchronizedStatement or
+                ThrowStatement or TryStatement
+        EmptyStatement /= Java8Token.SEMICOLON
+        LabeledStatement /= Identifier * Java8Token.COLON * Statement
+        LabeledStatementNoShortIf /= Identifier * Java8Token.COLON * StatementNoShortIf
+        ExpressionStatement /= StatementExpression * Java8Token.SEMICOLON
+        StatementExpression /= Assignment or PreIncrementExpression or PreDecrementExpression or PostIncrementExpression or
+                PostDecrementExpression or MethodInvocation or ClassInstanceCreationExpression
+        IfThenStatement /= Java8Token.IF * Java8Token.PARENTHLEFT * Expression * Java8Token.PARENTHRIGHT * Statement
+        IfThenElseStatement /= Java8Token.IF * Java8Token.PARENTHLEFT * Expression * Java8Token.PARENTHRIGHT * StatementNoShortIf * Java8Token.ELSE * Statement
+        IfThenElseStatementNoShortIf /=
+            Java8Token.IF * Java8Token.PARENTHLEFT * Expression * Java8Token.PARENTHRIGHT * StatementNoShortIf * Java8Token.ELSE * StatementNoShortIf
+        AssertStatement /= Java8Token.ASSERT * Expression * Java8Token.SEMICOLON or
+                Java8Token.ASSERT * Expression * Java8Token.COLON * Expression * Java8Token.SEMICOLON
+        SwitchStatement /= Java8Token.SWITCH * Java8Token.PARENTHLEFT * Expression * Java8Token.PARENTHRIGHT * SwitchBlock
+        SwitchBlock /= Java8Token.CURLYLEFT * Many(SwitchBlockStatementGroup) * Many(SwitchLabel) * Java8Token.CURLYRIGHT
+        SwitchBlockStatementGroup /= SwitchLabels * BlockStatements
+        SwitchLabels /= some(SwitchLabel)
+        SwitchLabel /= Java8Token.CASE * ConstantExpression * Java8Token.COLON or
+                Java8Token.CASE * EnumConstantName * Java8Token.COLON or Java8Token.DEFAULT * Java8Token.COLON
+        EnumConstantName /= Identifier
+        WhileStatement /= Java8Token.WHILE * Java8Token.PARENTHLEFT * Expression * Java8Token.PARENTHRIGHT * Statement
+        WhileStatementNoShortIf /= Java8Token.WHILE * Java8Token.PARENTHLEFT * Expression * Java8Token.PARENTHRIGHT * StatementNoShortIf
+        DoStatement /= Java8Token.DO * Statement * Java8Token.WHILE * Java8Token.PARENTHLEFT * Expression * Java8Token.PARENTHRIGHT * Java8Token.SEMICOLON
+        ForStatement /= BasicForStatement or EnhancedForStatement
+        ForStatementNoShortIf /= BasicForStatementNoShortIf or EnhancedForStatementNoShortIf
+        BasicForStatement /= Java8Token.FOR * Java8Token.PARENTHLEFT * Option(ForInit) * Java8Token.SEMICOLON * Option(Expression) * Java8Token.SEMICOLON * Option(ForUpdate) * Java8Token.PARENTHRIGHT * Statement
+        BasicForStatementNoShortIf /= Java8Token.FOR * Java8Token.PARENTHLEFT * Option(ForInit) * Java8Token.SEMICOLON * Option(Expression) * Java8Token.SEMICOLON * Option(ForUpdate) * Java8Token.PARENTHRIGHT * StatementNoShortIf
+        ForInit /= StatementExpressionList or LocalVariableDeclaration
+        ForUpdate /= StatementExpressionList
+        StatementExpressionList /= StatementExpression * Many(Java8Token.COMMA * StatementExpression)
+        EnhancedForStatement /= Java8Token.FOR * Java8Token.PARENTHLEFT * Many(VariableModifier) * UnannType * VariableDeclaratorId * Java8Token.COLON * Expression * Java8Token.PARENTHRIGHT * Statement
+        EnhancedForStatementNoShortIf /= Java8Token.FOR * Java8Token.PARENTHLEFT * Many(VariableModifier) * UnannType * VariableDeclaratorId * Java8Token.COLON * Expression * Java8Token.PARENTHRIGHT * StatementNoShortIf
+        BreakStatement /= Java8Token.BREAK * Option(Identifier) * Java8Token.SEMICOLON
+        ContinueStatement /= Java8Token.CONTINUE * Option(Identifier) * Java8Token.SEMICOLON
+        ReturnStatement /= Java8Token.RETURN * Option(Expression) * Java8Token.SEMICOLON
+        ThrowStatement /= Java8Token.THROW * Expression * Java8Token.SEMICOLON
+        SynchronizedStatement /= Java8Token.SYNCHRONIZED * Java8Token.PARENTHLEFT * Expression * Java8Token.PARENTHRIGHT * Block
+        TryStatement /= Java8Token.TRY * Block * Catches or Java8Token.TRY * Block * Option(Catches) * Finally or TryWithResourcesStatement
+        Catches /= some(CatchClause)
+        CatchClause /= Java8Token.CATCH * Java8Token.PARENTHLEFT * CatchFormalParameter * Java8Token.PARENTHRIGHT * Block
+        CatchFormalParameter /= Many(VariableModifier) * CatchType * VariableDeclaratorId
+        CatchType /= UnannClassType * Many(Java8Token.ORBIT * ClassType)
+        Finally /= Java8Token.FINALLY * Block
+        TryWithResourcesStatement /= Java8Token.TRY * ResourceSpecification * Block * Option(Catches) * Option(Finally)
+        ResourceSpecification /= Java8Token.PARENTHLEFT * ResourceList * Option(Java8Token.SEMICOLON) * Java8Token.PARENTHRIGHT
+        ResourceList /= Resource * Many(Java8Token.COMMA * Resource)
+        Resource /= Many(VariableModifier) * UnannType * VariableDeclaratorId * Java8Token.ASSIGN * Expression
+
+        /**
+         * Productions from §15 (Expressions)
+         */
+
+        Primary /= PrimaryNoNewArray or ArrayCreationExpression
+        PrimaryNoNewArray /= Literal or ClassLiteral or Java8Token.THIS or TypeName * Java8Token.DOT * Java8Token.THIS or
+                Java8Token.PARENTHLEFT * Expression * Java8Token.PARENTHRIGHT or ClassInstanceCreationExpression or FieldAccess or
+                ArrayAccess or MethodInvocation or MethodReference
+        ClassLiteral /= TypeName * Many(Java8Token.BRACKETLEFT * Java8Token.BRACKETRIGHT) * Java8Token.DOT * Java8Token.CLASS or
+                NumericType * Many(Java8Token.BRACKETLEFT * Java8Token.BRACKETRIGHT) * Java8Token.DOT * Java8Token.CLASS or
+                Java8Token.BOOLEAN * Many(Java8Token.BRACKETLEFT * Java8Token.BRACKETRIGHT) * Java8Token.DOT * Java8Token.CLASS or
+                Java8Token.VOID * Java8Token.DOT * Java8Token.CLASS
+        ClassInstanceCreationExpression /= UnqualifiedClassInstanceCreationExpression or
+                ExpressionName * Java8Token.DOT * UnqualifiedClassInstanceCreationExpression or
+                Primary * Java8Token.DOT * UnqualifiedClassInstanceCreationExpression
+        UnqualifiedClassInstanceCreationExpression /=
+            Java8Token.NEW * Option(TypeArguments) * classOrInterfaceTypeToInstantiate * Java8Token.PARENTHLEFT * Option(ArgumentList) * Java8Token.PARENTHRIGHT * Option(ClassBody)
+        classOrInterfaceTypeToInstantiate /= Many(Annotation) * Identifier * Many(Java8Token.DOT * Many(Annotation) * Identifier) * Option(TypeArgumentsOrDiamond)
+        TypeArgumentsOrDiamond /= TypeArguments or Java8Token.LT * Java8Token.GT
+        FieldAccess /= Primary * Java8Token.DOT * Identifier or Java8Token.SUPER * Java8Token.DOT * Identifier or
+                TypeName * Java8Token.DOT * Java8Token.SUPER * Java8Token.DOT * Identifier
+        ArrayAccess /= ExpressionName * Java8Token.BRACKETLEFT * Expression * Java8Token.BRACKETRIGHT or
+                PrimaryNoNewArray * Java8Token.BRACKETLEFT * Expression * Java8Token.BRACKETRIGHT
+        MethodInvocation /= MethodName * Java8Token.PARENTHLEFT * Option(ArgumentList) * Java8Token.PARENTHRIGHT or
+                TypeName * Java8Token.DOT * Option(TypeArguments) * Identifier * Java8Token.PARENTHLEFT * Option(ArgumentList) * Java8Token.PARENTHRIGHT or
+                ExpressionName * Java8Token.DOT * Option(TypeArguments) * Identifier * Java8Token.PARENTHLEFT * Option(ArgumentList) * Java8Token.PARENTHRIGHT or
+                Primary * Java8Token.DOT * Option(TypeArguments) * Identifier * Java8Token.PARENTHLEFT * Option(ArgumentList) * Java8Token.PARENTHRIGHT or
+                Java8Token.SUPER * Java8Token.DOT * Option(TypeArguments) * Identifier * Java8Token.PARENTHLEFT * Option(ArgumentList) * Java8Token.PARENTHRIGHT or
+                TypeName * Java8Token.DOT * Java8Token.SUPER * Java8Token.DOT * Option(TypeArguments) * Identifier * Java8Token.PARENTHLEFT * Option(ArgumentList) * Java8Token.PARENTHRIGHT
+        ArgumentList /= Expression * Many(Java8Token.COMMA * Expression)
+        MethodReference /= ExpressionName * Java8Token.DOUBLECOLON * Option(TypeArguments) * Identifier or
+                ReferenceType * Java8Token.DOUBLECOLON * Option(TypeArguments) * Identifier or
+                Primary * Java8Token.DOUBLECOLON * Option(TypeArguments) * Identifier or
+                Java8Token.SUPER * Java8Token.DOUBLECOLON * Option(TypeArguments) * Identifier or
+                TypeName * Java8Token.DOT * Java8Token.SUPER * Java8Token.DOUBLECOLON * Option(TypeArguments) * Identifier or
+                ClassType * Java8Token.DOUBLECOLON * Option(TypeArguments) * Java8Token.NEW or
+                ArrayType * Java8Token.DOUBLECOLON * Java8Token.NEW
+        ArrayCreationExpression /= Java8Token.NEW * PrimitiveType * DimExprs * Option(Dims) or
+                Java8Token.NEW * ClassOrInterfaceType * DimExprs * Option(Dims) or
+                Java8Token.NEW * PrimitiveType * Dims * ArrayInitializer or
+                Java8Token.NEW * ClassOrInterfaceType * Dims * ArrayInitializer
+        DimExprs /= some(DimExpr)
+        DimExpr /= Many(Annotation) * Java8Token.BRACKETLEFT * Expression * Java8Token.BRACKETRIGHT
+        Expression /= LambdaExpression or AssignmentExpression
+        LambdaExpression /= LambdaParameters * Java8Token.ARROW * LambdaBody
+        LambdaParameters /= Identifier or Java8Token.PARENTHLEFT * Option(FormalParameterList) * Java8Token.PARENTHRIGHT or
+                Java8Token.PARENTHLEFT * InferredFormalParameterList * Java8Token.PARENTHRIGHT
+        InferredFormalParameterList /= Identifier * Many(Java8Token.COMMA * Identifier)
+        LambdaBody /= Expression or Block
+        AssignmentExpression /= ConditionalExpression or Assignment
+        Assignment /= LeftHandSide * AssignmentOperator * Expression
+        LeftHandSide /= ExpressionName or FieldAccess or ArrayAccess
+        AssignmentOperator /= Java8Token.ASSIGN or Java8Token.STARASSIGN or Java8Token.SLASHASSIGN or Java8Token.PERCENTASSIGN or Java8Token.PLUSASSIGN or Java8Token.MINUSASSIGN or
+                Java8Token.SHIFTLEFTASSIGN or Java8Token.SHIFTRIGHTASSIGN or Java8Token.USRIGHTSHIFTASSIGN or Java8Token.ANDASSIGN or Java8Token.XORASSIGN or Java8Token.ORASSIGN
+        ConditionalExpression /= ConditionalOrExpression or
+                ConditionalOrExpression * Java8Token.QUESTIONMARK * Expression * Java8Token.COLON * ConditionalExpression or
+                ConditionalOrExpression * Java8Token.QUESTIONMARK * Expression * Java8Token.COLON * LambdaExpression
+        ConditionalOrExpression /= ConditionalAndExpression or
+                ConditionalOrExpression * Java8Token.OR * ConditionalAndExpression
+        ConditionalAndExpression /= InclusiveOrExpression or
+                ConditionalAndExpression * Java8Token.AND * InclusiveOrExpression
+        InclusiveOrExpression /= ExclusiveOrExpression or
+                InclusiveOrExpression * Java8Token.ORBIT * ExclusiveOrExpression
+        ExclusiveOrExpression /= AndExpression or ExclusiveOrExpression * Java8Token.XORBIT * AndExpression
+        AndExpression /= EqualityExpression or AndExpression * Java8Token.ANDBIT * EqualityExpression
+        EqualityExpression /= RelationalExpression or EqualityExpression * Java8Token.EQ * RelationalExpression or
+                EqualityExpression * Java8Token.NOTEQ * RelationalExpression
+        RelationalExpression /= ShiftExpression or RelationalExpression * Java8Token.LT * ShiftExpression or
+                RelationalExpression * Java8Token.GT * ShiftExpression or RelationalExpression * Java8Token.LESSEQ * ShiftExpression or
+                RelationalExpression * Java8Token.GREATEQ * ShiftExpression or RelationalExpression * Java8Token.INSTANCEOF * ReferenceType
+        ShiftExpression /= AdditiveExpression or ShiftExpression * Java8Token.LT * Java8Token.LT * AdditiveExpression or
+                ShiftExpression * Java8Token.GT * Java8Token.GT * AdditiveExpression or
+                ShiftExpression * Java8Token.GT * Java8Token.GT * Java8Token.GT * AdditiveExpression
+        AdditiveExpression /= MultiplicativeExpression or AdditiveExpression * Java8Token.PLUS * MultiplicativeExpression or
+                AdditiveExpression * Java8Token.MINUS * MultiplicativeExpression
+        MultiplicativeExpression /= UnaryExpression or MultiplicativeExpression * Java8Token.STAR * UnaryExpression or
+                MultiplicativeExpression * Java8Token.SLASH * UnaryExpression or
+                MultiplicativeExpression * Java8Token.PERCENT * UnaryExpression
+        UnaryExpression /= PreIncrementExpression or PreDecrementExpression or Java8Token.PLUS * UnaryExpression or
+                Java8Token.MINUS * UnaryExpression or UnaryExpressionNotPlusMinus
+        PreIncrementExpression /= Java8Token.PLUSPLUS * UnaryExpression
+        PreDecrementExpression /= Java8Token.MINUSMINUS * UnaryExpression
+        UnaryExpressionNotPlusMinus /= PostfixExpression or Java8Token.TILDA * UnaryExpression or Java8Token.EXCLAMATIONMARK * UnaryExpression or
+                CastExpression
+        PostfixExpression /= Primary or ExpressionName or PostIncrementExpression or PostDecrementExpression
+        PostIncrementExpression /= PostfixExpression * Java8Token.PLUSPLUS
+        PostDecrementExpression /= PostfixExpression * Java8Token.MINUSMINUS
+        CastExpression /= Java8Token.PARENTHLEFT * PrimitiveType * Java8Token.PARENTHRIGHT * UnaryExpression or
+                Java8Token.PARENTHLEFT * ReferenceType * Many(AdditionalBound) * Java8Token.PARENTHRIGHT * UnaryExpressionNotPlusMinus or
+                Java8Token.PARENTHLEFT * ReferenceType * Many(AdditionalBound) * Java8Token.PARENTHRIGHT * LambdaExpression
+        ConstantExpression /= Expression
+    }
+}
@@ -0,0 +1,97 @@
+package solver.benchmarks.construction
+
+import org.ucfs.input.LinearInput
+import org.ucfs.input.TerminalInputLabel
+
+private val keywords = listOf(
+    Java8Token.BOOLEAN, Java8Token.BYTE, Java8Token.SHORT, Java8Token.INT, Java8Token.LONG, Java8Token.CHAR,
+    Java8Token.FLOAT, Java8Token.DOUBLE, Java8Token.EXTENDS, Java8Token.SUPER, Java8Token.PACKAGE, Java8Token.IMPORT,
+    Java8Token.STATIC, Java8Token.CLASS, Java8Token.PUBLIC, Java8Token.PROTECTED, Java8Token.PRIVATE,
+    Java8Token.FINAL, Java8Token.STRICTFP, Java8Token.IMPLEMENTS, Java8Token.TRANSIENT, Java8Token.VOLATILE,
+    Java8Token.INSTANCEOF, Java8Token.SYNCHRONIZED, Java8Token.NATIVE, Java8Token.VOID, Java8Token.THIS,
+    Java8Token.THROWS, Java8Token.ENUM, Java8Token.INTERFACE, Java8Token.ABSTRACT, Java8Token.DEFAULT,
+    Java8Token.ASSERT, Java8Token.SWITCH, Java8Token.CASE, Java8Token.WHILE, Java8Token.FOR, Java8Token.IF,
+    Java8Token.ELSE, Java8Token.DO, Java8Token.BREAK, Java8Token.CONTINUE, Java8Token.RETURN, Java8Token.THROW,
+    Java8Token.TRY, Java8Token.CATCH, Java8Token.FINALLY, Java8Token.NEW
+).associateBy { it.name.lowercase() }
+
+private val operators = mapOf(
+    "." to Java8Token.DOT, "[" to Java8Token.BRACKETLEFT, "]" to Java8Token.BRACKETRIGHT,
+    "(" to Java8Token.PARENTHLEFT, ")" to Java8Token.PARENTHRIGHT, "{" to Java8Token.CURLYLEFT,
+    "}" to Java8Token.CURLYRIGHT, "&" to Java8Token.ANDBIT, "<" to Java8Token.LT, ">" to Java8Token.GT,
+    ";" to Java8Token.SEMICOLON, ":" to Java8Token.COLON,
+    "::" to Java8Token.DOUBLECOLON, "..." to Java8Token.ELLIPSIS, "," to Java8Token.COMMA,
+    "?" to Java8Token.QUESTIONMARK, "*" to Java8Token.STAR, "+" to Java8Token.PLUS, "-" to Java8Token.MINUS,
+    "%" to Java8Token.PERCENT, "/" to Java8Token.SLASH, "++" to Java8Token.PLUSPLUS, "--" to Java8Token.MINUSMINUS,
+    "~" to Java8Token.TILDA, "!" to Java8Token.EXCLAMATIONMARK, "=" to Java8Token.ASSIGN,
+    "*=" to Java8Token.STARASSIGN, "/=" to Java8Token.SLASHASSIGN, "+=" to Java8Token.PLUSASSIGN,
+    "-=" to Java8Token.MINUSASSIGN, "%=" to Java8Token.PERCENTASSIGN, "^=" to Java8Token.XORASSIGN,
+    "<<=" to Java8Token.SHIFTLEFTASSIGN, ">>=" to Java8Token.SHIFTRIGHTASSIGN,
+    ">>>=" to Java8Token.USRIGHTSHIFTASSIGN, "&=" to Java8Token.ANDASSIGN, "|=" to Java8Token.ORASSIGN,
+    "||" to Java8Token.OR, "&&" to Java8Token.AND, "^" to Java8Token.XORBIT, "==" to Java8Token.EQ,
+    "!=" to Java8Token.NOTEQ, "<=" to Java8Token.LESSEQ, ">=" to Java8Token.GREATEQ, "@" to Java8Token.AT,
+    "|" to Java8Token.ORBIT, "->" to Java8Token.ARROW
+)
+
+private fun getToken(lexeme: String): Java8Token = keywords[lexeme] ?: operators[lexeme] ?: when {
+    lexeme == "true" || lexeme == "false" -> Java8Token.BOOLEANLIT
+    lexeme == "null" -> Java8Token.NULLLIT
+    lexeme.startsWith("\"") -> Java8Token.STRINGLIT
+    lexeme.startsWith("'") -> Java8Token.CHARLIT
+    lexeme.first().isDigit() -> if ('.' in lexeme) Java8Token.FLOATINGLIT else Java8Token.INTEGERLIT
+    else -> Java8Token.ID
+}
+
+/**
+ * Linear input of [Java8Grammar] from Java source, where all tokens are separated by whitespace
+ */
+fun readJava8Tokens(source: String): LinearInput<Int, TerminalInputLabel> {
+    val input = LinearInput<Int, TerminalInputLabel>()
+    input.addStartVertex(0)
+    val lexemes = source.split(Regex("\\s+")).filter { it.isNotEmpty() }
+    for ((i, lexeme) in lexemes.withIndex()) {
+        input.addEdge(i, TerminalInputLabel(getToken(lexeme)), i + 1)
+        input.addVertex(i + 1)
+    }
+    return input
+}
+
+/**
+ * Class with fields, loops and nested expressions, repeated [classesCount] times in one compilation unit
+ */
+fun getJava8Source(classesCount: Int): String {
+    val header = """
+        package org . example ;
+        import java . util . List ;
+        import java . util . ArrayList ;
+    """
+    val classes = (0 until classesCount).joinToString("\n") { i ->
+        """
+        public class Sample$i extends Base implements Runnable {
+            private final List < String > names = new ArrayList < > ( ) ;
+            private int count = 0 ;
+
+            public Sample$i ( int count ) { this . count = count ; }
+
+            @ Override
+            public void run ( ) {
+                for ( int i = 0 ; i < count ; i ++ ) {
+                    if ( i % 2 == 0 && names . size ( ) < 10 ) {
+                        names . add ( "item" + i ) ;
+                    } else {
+                        count = count - 1 ;
+                    }
+                }
+                while ( count > 0 ) { count -= 1 ; }
+            }
+
+            static int sum ( int [ ] values ) {
+                int result = 0 ;
+                for ( int value : values ) { result += value * 2 + 1 ; }
+                return result > 0 ? result : - result ;
+            }
+        }
+        """
+    }
+    return header + classes
+}
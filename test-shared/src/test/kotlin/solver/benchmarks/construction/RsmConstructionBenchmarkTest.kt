@@ -0,0 +1,56 @@
+package solver.benchmarks.construction
+
+import org.junit.jupiter.api.Test
+import org.ucfs.grammar.combinator.Grammar
+import org.ucfs.rsm.getStatesCount
+import solver.benchmarks.CAliasTest.CAliasGrammar
+import solver.correctnessTests.dyckKParity.dyckBetaGrammarKParity
+
+/**
+ * Measures creation of grammar DSL expressions and building of RSM from them, each run builds RSM of new grammar
+ * instance
+ */
+class RsmConstructionBenchmarkTest {
+    private fun measureConstruction(name: String, createGrammar: () -> Grammar) {
+        val runs = System.getProperty("count_for_case")?.toIntOrNull() ?: 10
+        // warm up
+        getStatesCount(createGrammar().rsm)
+        var totalGrammarNs = 0L
+        var totalNs = 0L
+        var states = 0
+        repeat(runs) {
+            val grammarStart = System.nanoTime()
+            val grammar = createGrammar()
+            val start = System.nanoTime()
+            val rsm = grammar.rsm
+            totalNs += System.nanoTime() - start
+            totalGrammarNs += start - grammarStart
+            states = getStatesCount(rsm)
+        }
+        println("\n=== $name ===")
+        println(
+            "rsm states: %6d, average grammar creation time: %10.3f ms, average build time: %10.3f ms".format(
+                states, totalGrammarNs / runs / 1e6, totalNs / runs / 1e6
+            )
+        )
+    }
+
+    @Test
+    fun java8() {
+        measureConstruction("Java8Grammar") { Java8Grammar() }
+    }
+
+    @Test
+    fun cAlias() {
+        measureConstruction("CAliasGrammar") { CAliasGrammar() }
+    }
+
+    @Test
+    fun dyckKParity() {
+        for (k in listOf(2, 3)) {
+            measureConstruction("dyckKParity beta, k = $k") {
+                dyckBetaGrammarKParity(bracketsIds = listOf("1", "2", "3"), k = k)
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package solver.benchmarks.gss
+
+import org.ucfs.descriptors.Descriptor
+import org.ucfs.descriptors.DescriptorsStorage
+import org.ucfs.gss.ClusteredGraphStructuredStack
+import org.ucfs.input.TerminalInputLabel
+import org.ucfs.parser.Gll
+import org.ucfs.parser.IGll
+import solver.benchmarks.AbstractComparisonBenchmarkTest
+import solver.benchmarks.BenchmarkVariant
+import solver.benchmarks.ParseRun
+
+/**
+ * Counts created descriptors, including duplicates of already added ones
+ */
+class AddCountingDescriptorsStorage : DescriptorsStorage<Int>() {
+    var addedCount = 0
+
+    override fun add(descriptor: Descriptor<Int>) {
+        addedCount++
+        super.add(descriptor)
+    }
+}
+
+class ClusteredGssBenchmarkTest : AbstractComparisonBenchmarkTest() {
+    override fun variants() = listOf(
+        BenchmarkVariant("default gss") { rsm, input -> Gll.gll(rsm, input, AddCountingDescriptorsStorage()) },
+        BenchmarkVariant("clustered gss") { rsm, input ->
+            Gll.gll(rsm, input, AddCountingDescriptorsStorage(), gss = ClusteredGraphStructuredStack())
+        },
+    )
+
+    override fun parse(gll: IGll<Int, TerminalInputLabel>): ParseRun {
+        val resultsCount = gll.parse().size
+        val added = (gll.ctx.descriptors as AddCountingDescriptorsStorage).addedCount
+        return ParseRun(resultsCount, "added descriptors: %8d".format(added))
+    }
+}
@@ -0,0 +1,77 @@
+package solver.benchmarks.gss
+
+import org.junit.jupiter.api.Test
+import org.ucfs.gss.InternedGraphStructuredStack
+import org.ucfs.input.InputGraph
+import org.ucfs.input.TerminalInputLabel
+import org.ucfs.parser.Gll
+import org.ucfs.parser.IGll
+import org.ucfs.rsm.symbol.Term
+import org.ucfs.sppf.RecognizerSppfStorage
+import solver.benchmarks.AbstractComparisonBenchmarkTest
+import solver.benchmarks.BenchmarkVariant
+import solver.benchmarks.CountingDescriptorsStorage
+import solver.benchmarks.LoopDyckGrammarTest.LoopDyckGrammar
+import solver.benchmarks.ParseRun
+import java.lang.management.ManagementFactory
+import kotlin.random.Random
+
+class InternedGssBenchmarkTest : AbstractComparisonBenchmarkTest() {
+    private val threads = ManagementFactory.getThreadMXBean() as com.sun.management.ThreadMXBean
+
+    override fun variants() = listOf(
+        BenchmarkVariant("hash map gss") { rsm, input -> Gll.gll(rsm, input, CountingDescriptorsStorage()) },
+        BenchmarkVariant("interned gss") { rsm, input ->
+            Gll.gll(rsm, input, CountingDescriptorsStorage(), gss = InternedGraphStructuredStack())
+        },
+    )
+
+    override fun parse(gll: IGll<Int, TerminalInputLabel>): ParseRun {
+        val threadId = Thread.currentThread().id
+        val allocatedBefore = threads.getThreadAllocatedBytes(threadId)
+        val resultsCount = gll.parse().size
+        val allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore
+        val descriptors = (gll.ctx.descriptors as CountingDescriptorsStorage).handledCount
+        val gssNodes = gll.ctx.gss.size
+        return ParseRun(
+            resultsCount, "gss nodes: %7d, allocated per 1M descriptors: %8.1f MB".format(
+                gssNodes, allocated * 1e6 / descriptors.coerceAtLeast(1) / (1 shl 20)
+            )
+        )
+    }
+
+    /**
+     * Dense random graph, where the same GSS nodes are requested many times: most calls don't create nodes
+     */
+    @Test
+    fun randomGraph() {
+        val verticesCount = 40
+        fun createInput(): InputGraph<Int, TerminalInputLabel> {
+            val random = Random(42)
+            val input = InputGraph<Int, TerminalInputLabel>()
+            for (vertex in 0 until verticesCount) {
+                input.addVertex(vertex)
+            }
+            input.addStartVertex(0)
+            for (vertex in 0 until verticesCount) {
+                for (bracket in listOf("(", ")")) {
+                    repeat(2) { input.addEdge(vertex, TerminalInputLabel(Term(bracket)), random.nextInt(verticesCount)) }
+                }
+            }
+            return input
+        }
+        compare(
+            "LoopDyckGrammar/random graph, $verticesCount vertices", LoopDyckGrammar().rsm, ::createInput, listOf(
+                BenchmarkVariant("hash map gss") { rsm, input ->
+                    Gll.gll(rsm, input, CountingDescriptorsStorage(), RecognizerSppfStorage())
+                },
+                BenchmarkVariant("interned gss") { rsm, input ->
+                    Gll.gll(
+                        rsm, input, CountingDescriptorsStorage(), RecognizerSppfStorage(),
+                        InternedGraphStructuredStack()
+                    )
+                },
+            )
+        )
+    }
+}
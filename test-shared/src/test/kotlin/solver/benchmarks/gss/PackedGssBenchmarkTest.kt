@@ -0,0 +1,72 @@
+package solver.benchmarks.gss
+
+import org.junit.jupiter.api.Test
+import org.ucfs.gss.PackedGraphStructuredStack
+import org.ucfs.input.InputGraph
+import org.ucfs.input.TerminalInputLabel
+import org.ucfs.parser.Gll
+import org.ucfs.parser.IGll
+import org.ucfs.rsm.symbol.Term
+import org.ucfs.sppf.RecognizerSppfStorage
+import solver.benchmarks.AbstractComparisonBenchmarkTest
+import solver.benchmarks.BenchmarkVariant
+import solver.benchmarks.LoopDyckGrammarTest.LoopDyckGrammar
+import solver.benchmarks.ParseRun
+import java.lang.management.ManagementFactory
+import kotlin.random.Random
+
+class PackedGssBenchmarkTest : AbstractComparisonBenchmarkTest() {
+    private val collectors = ManagementFactory.getGarbageCollectorMXBeans()
+
+    private fun getGcTimeMs(): Long = collectors.sumOf { it.collectionTime.coerceAtLeast(0) }
+
+    override fun variants() = listOf(
+        BenchmarkVariant("default gss") { rsm, input -> Gll.gll(rsm, input) },
+        BenchmarkVariant("packed gss") { rsm, input ->
+            Gll.gll(rsm, input, gss = PackedGraphStructuredStack())
+        },
+    )
+
+    override fun parse(gll: IGll<Int, TerminalInputLabel>): ParseRun {
+        val gcTimeBefore = getGcTimeMs()
+        val resultsCount = gll.parse().size
+        val gcTime = getGcTimeMs() - gcTimeBefore
+        val gss = gll.ctx.gss
+        val edges = if (gss is PackedGraphStructuredStack) {
+            gss.edgesCount
+        } else {
+            gss.getNodes().sumOf { it.outgoingEdges.size }
+        }
+        return ParseRun(resultsCount, "gss edges: %8d, gc time: %5d ms".format(edges, gcTime))
+    }
+
+    /**
+     * Dense random graph in recognizer mode, where GSS is the largest structure after descriptors
+     */
+    @Test
+    fun randomGraph() {
+        val verticesCount = 80
+        fun createInput(): InputGraph<Int, TerminalInputLabel> {
+            val random = Random(42)
+            val input = InputGraph<Int, TerminalInputLabel>()
+            for (vertex in 0 until verticesCount) {
+                input.addVertex(vertex)
+                input.addStartVertex(vertex)
+            }
+            for (vertex in 0 until verticesCount) {
+                for (bracket in listOf("(", ")")) {
+                    repeat(2) { input.addEdge(vertex, TerminalInputLabel(Term(bracket)), random.nextInt(verticesCount)) }
+                }
+            }
+            return input
+        }
+        compare(
+            "LoopDyckGrammar/random graph, $verticesCount vertices", LoopDyckGrammar().rsm, ::createInput, listOf(
+                BenchmarkVariant("default gss") { rsm, input -> Gll.recognizer(rsm, input) },
+                BenchmarkVariant("packed gss") { rsm, input ->
+                    Gll.gll(rsm, input, sppfStorage = RecognizerSppfStorage(), gss = PackedGraphStructuredStack())
+                },
+            )
+        )
+    }
+}
@@ -0,0 +1,35 @@
+package solver.benchmarks.lookahead
+
+import org.ucfs.input.TerminalInputLabel
+import org.ucfs.parser.Gll
+import org.ucfs.parser.IGll
+import org.ucfs.rsm.FirstSets
+import solver.benchmarks.AbstractComparisonBenchmarkTest
+import solver.benchmarks.BenchmarkVariant
+import solver.benchmarks.CountingDescriptorsStorage
+import solver.benchmarks.ParseRun
+
+class LookaheadBenchmarkTest : AbstractComparisonBenchmarkTest() {
+    override fun variants() = listOf(
+        BenchmarkVariant("without lookahead") { rsm, input ->
+            Gll.gll(rsm, input, CountingDescriptorsStorage())
+        },
+        BenchmarkVariant("first lookahead") { rsm, input ->
+            Gll.gll(rsm, input, CountingDescriptorsStorage(), lookahead = FirstSets.compute(rsm))
+        },
+        BenchmarkVariant("return lookahead") { rsm, input ->
+            Gll.gll(rsm, input, CountingDescriptorsStorage(), returnLookahead = FirstSets.compute(rsm))
+        },
+        BenchmarkVariant("both lookaheads") { rsm, input ->
+            val firstSets = FirstSets.compute(rsm)
+            Gll.gll(rsm, input, CountingDescriptorsStorage(), lookahead = firstSets, returnLookahead = firstSets)
+        },
+    )
+
+    override fun parse(gll: IGll<Int, TerminalInputLabel>): ParseRun {
+        val resultsCount = gll.parse().size
+        val descriptors = (gll.ctx.descriptors as CountingDescriptorsStorage).handledCount
+        val gssNodes = gll.ctx.gss.size
+        return ParseRun(resultsCount, "descriptors: %8d, gss nodes: %7d".format(descriptors, gssNodes))
+    }
+}
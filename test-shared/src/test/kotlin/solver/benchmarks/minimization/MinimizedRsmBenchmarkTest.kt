@@ -0,0 +1,76 @@
+package solver.benchmarks.minimization
+
+import org.junit.jupiter.api.Test
+import org.ucfs.input.TerminalInputLabel
+import org.ucfs.parser.Gll
+import org.ucfs.parser.IGll
+import org.ucfs.rsm.getStatesCount
+import org.ucfs.rsm.minimizeRsm
+import solver.benchmarks.AbstractComparisonBenchmarkTest
+import solver.benchmarks.BenchmarkVariant
+import solver.benchmarks.CountingDescriptorsStorage
+import solver.benchmarks.ParseRun
+import solver.benchmarks.construction.Java8Grammar
+import solver.benchmarks.construction.getJava8Source
+import solver.benchmarks.construction.readJava8Tokens
+import solver.correctnessTests.dyckKParity.dyckAlphaGrammarKParity
+import solver.correctnessTests.dyckKParity.dyckBetaGrammarKParity
+import solver.correctnessTests.modes.forEachCorrectnessCase
+
+class MinimizedRsmBenchmarkTest : AbstractComparisonBenchmarkTest() {
+    override fun variants() = listOf(
+        BenchmarkVariant("original rsm") { rsm, input -> Gll.gll(rsm, input, CountingDescriptorsStorage()) },
+        BenchmarkVariant("minimized rsm") { rsm, input ->
+            Gll.gll(minimizeRsm(rsm), input, CountingDescriptorsStorage())
+        },
+    )
+
+    override fun parse(gll: IGll<Int, TerminalInputLabel>): ParseRun {
+        val resultsCount = gll.parse().size
+        val descriptors = (gll.ctx.descriptors as CountingDescriptorsStorage).handledCount
+        val states = getStatesCount(gll.ctx.fictiveStartState)
+        return ParseRun(resultsCount, "rsm states: %5d, descriptors: %8d".format(states, descriptors))
+    }
+
+    /**
+     * Java 8 grammar is the largest one, its inputs are generated Java sources
+     */
+    @Test
+    fun java8() {
+        val grammar = Java8Grammar()
+        for (classesCount in listOf(1, 8)) {
+            val source = getJava8Source(classesCount)
+            compare("Java8Grammar/$classesCount classes", grammar.rsm, { readJava8Tokens(source) }, variants())
+        }
+    }
+
+    /**
+     * Grammars with several parities have no benchmark inputs, so correctness inputs are used
+     */
+    @Test
+    fun dyckKParity() {
+        val grammars = listOf(1, 2, 3).flatMap { k ->
+            listOf(
+                "alpha, k = $k" to dyckAlphaGrammarKParity(bracketsIds = listOf("1", "2", "3"), k = k),
+                "beta, k = $k" to dyckBetaGrammarKParity(bracketsIds = listOf("1", "2", "3"), k = k),
+            )
+        }
+        for ((name, grammar) in grammars) {
+            val minimized = minimizeRsm(grammar.rsm)
+            println("\n=== dyckKParity $name ===")
+            println("rsm states: ${getStatesCount(grammar.rsm)} -> ${getStatesCount(minimized)}")
+            var originalDescriptors = 0
+            var minimizedDescriptors = 0
+            forEachCorrectnessCase { caseGrammar, _, readInput ->
+                if (caseGrammar.name != grammar.name) return@forEachCorrectnessCase
+                val original = Gll.gll(grammar.rsm, readInput(), CountingDescriptorsStorage())
+                original.parse()
+                originalDescriptors += (original.ctx.descriptors as CountingDescriptorsStorage).handledCount
+                val reduced = Gll.gll(minimized, readInput(), CountingDescriptorsStorage())
+                reduced.parse()
+                minimizedDescriptors += (reduced.ctx.descriptors as CountingDescriptorsStorage).handledCount
+            }
+            println("descriptors on correctness inputs: $originalDescriptors -> $minimizedDescriptors")
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package solver.benchmarks.parallel
+
+import org.junit.jupiter.api.Test
+import org.ucfs.grammar.combinator.Grammar
+import org.ucfs.input.DotParser
+import org.ucfs.input.InputGraph
+import org.ucfs.input.TerminalInputLabel
+import org.ucfs.parser.Gll
+import org.ucfs.parser.ParallelGll
+import solver.benchmarks.BipartitleGrammarTest.BipartitleGrammar
+import solver.benchmarks.CAliasTest.CAliasGrammar
+import solver.benchmarks.LoopDyckGrammarTest.LoopDyckGrammar
+import solver.benchmarks.StrangeDyckGrammarTest.StrangeDyckGrammar
+import java.io.File
+import java.nio.file.Path
+import java.util.concurrent.ForkJoinPool
+import kotlin.io.path.readText
+
+/**
+ * Compares sequential Gll with [ParallelGll] on pools of different size. [ParallelGll] isn't an
+ * [org.ucfs.parser.IGll], so it is measured here instead of [solver.benchmarks.AbstractComparisonBenchmarkTest]
+ */
+class ParallelGllBenchmarkTest {
+    private val rootPath: Path = Path.of("src", "test", "resources", "benchmarks")
+
+    @Test
+    fun loopDyck() {
+        compare(LoopDyckGrammar())
+    }
+
+    @Test
+    fun bipartitle() {
+        compare(BipartitleGrammar())
+    }
+
+    @Test
+    fun cAlias() {
+        compare(CAliasGrammar())
+    }
+
+    @Test
+    fun strangeDyck() {
+        compare(StrangeDyckGrammar())
+    }
+
+    private fun compare(grammar: Grammar) {
+        val testCasesFolder = File(rootPath.resolve(grammar.name).toUri())
+        if (!testCasesFolder.exists()) {
+            println("Can't find test case for ${grammar.name}")
+            return
+        }
+        val runs = System.getProperty("count_for_case")?.toIntOrNull() ?: 10
+        val processors = Runtime.getRuntime().availableProcessors()
+        // speedup is expected only with several processors
+        println("available processors: $processors")
+        for (folder in testCasesFolder.listFiles()!!.filter { it.isDirectory }.sortedBy { it.name }) {
+            val text = folder.toPath().resolve("input.dot").readText()
+            val readInput = { DotParser().parseDot(text) }
+            println("\n=== ${grammar.name}/${folder.name} ===")
+            val sequentialNs = measure(runs, readInput) { Gll.gll(grammar.rsm, it).parse().size }
+            for (threads in listOf(1, 2, 4, processors).distinct()) {
+                val pool = ForkJoinPool(threads)
+                try {
+                    val parallelNs = measure(runs, readInput) { ParallelGll.gll(grammar.rsm, it, pool).parse().size }
+                    println(
+                        "parallel, %2d threads: %10.3f ms (x%.2f of sequential %.3f ms)".format(
+                            threads, parallelNs / 1_000_000, sequentialNs / parallelNs, sequentialNs / 1_000_000
+                        )
+                    )
+                } finally {
+                    pool.shutdown()
+                }
+            }
+        }
+    }
+
+    /**
+     * @return average time of parsing in nanoseconds, input is read outside of measured time
+     */
+    private fun measure(
+        runs: Int,
+        readInput: () -> InputGraph<Int, TerminalInputLabel>,
+        parse: (InputGraph<Int, TerminalInputLabel>) -> Int
+    ): Double {
+        // warm up as long as measure, so the first variant isn't measured with colder JIT than others
+        repeat(runs) { parse(readInput()) }
+        var totalTime = 0L
+        repeat(runs) {
+            val input = readInput()
+            val start = System.nanoTime()
+            parse(input)
+            totalTime += System.nanoTime() - start
+        }
+        return totalTime.toDouble() / runs
+    }
+}
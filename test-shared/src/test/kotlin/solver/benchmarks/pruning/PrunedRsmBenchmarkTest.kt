@@ -0,0 +1,44 @@
+package solver.benchmarks.pruning
+
+import org.junit.jupiter.api.Test
+import org.ucfs.input.TerminalInputLabel
+import org.ucfs.input.getLabelAlphabet
+import org.ucfs.parser.Gll
+import org.ucfs.parser.IGll
+import org.ucfs.rsm.getStatesCount
+import org.ucfs.rsm.pruneRsm
+import solver.benchmarks.AbstractComparisonBenchmarkTest
+import solver.benchmarks.BenchmarkVariant
+import solver.benchmarks.CountingDescriptorsStorage
+import solver.benchmarks.ParseRun
+import solver.benchmarks.construction.Java8Grammar
+import solver.benchmarks.construction.getJava8Source
+import solver.benchmarks.construction.readJava8Tokens
+
+class PrunedRsmBenchmarkTest : AbstractComparisonBenchmarkTest() {
+    override fun variants() = listOf(
+        BenchmarkVariant("full rsm") { rsm, input -> Gll.gll(rsm, input, CountingDescriptorsStorage()) },
+        BenchmarkVariant("pruned rsm") { rsm, input ->
+            Gll.gll(pruneRsm(rsm, input.getLabelAlphabet()), input, CountingDescriptorsStorage())
+        },
+    )
+
+    override fun parse(gll: IGll<Int, TerminalInputLabel>): ParseRun {
+        val resultsCount = gll.parse().size
+        val descriptors = (gll.ctx.descriptors as CountingDescriptorsStorage).handledCount
+        val states = getStatesCount(gll.ctx.fictiveStartState)
+        return ParseRun(resultsCount, "rsm states: %5d, descriptors: %8d".format(states, descriptors))
+    }
+
+    /**
+     * Java 8 grammar is the largest one, its inputs are generated Java sources
+     */
+    @Test
+    fun java8() {
+        val grammar = Java8Grammar()
+        for (classesCount in listOf(1, 8)) {
+            val source = getJava8Source(classesCount)
+            compare("Java8Grammar/$classesCount classes", grammar.rsm, { readJava8Tokens(source) }, variants())
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package solver.benchmarks.recognizer
+
+import org.ucfs.parser.Gll
+import solver.benchmarks.AbstractComparisonBenchmarkTest
+import solver.benchmarks.BenchmarkVariant
+
+class RecognizerBenchmarkTest : AbstractComparisonBenchmarkTest() {
+    override fun variants() = listOf(
+        BenchmarkVariant("sppf") { rsm, input -> Gll.gll(rsm, input) },
+        BenchmarkVariant("recognizer") { rsm, input -> Gll.recognizer(rsm, input) },
+    )
+}
@@ -0,0 +1,26 @@
+package solver.benchmarks.scheduling
+
+import org.ucfs.descriptors.DescriptorsStorage
+import org.ucfs.descriptors.FifoSchedulingPolicy
+import org.ucfs.descriptors.InputPositionSchedulingPolicy
+import org.ucfs.descriptors.RsmStatePrioritySchedulingPolicy
+import org.ucfs.parser.Gll
+import solver.benchmarks.AbstractComparisonBenchmarkTest
+import solver.benchmarks.BenchmarkVariant
+
+class SchedulingPolicyBenchmarkTest : AbstractComparisonBenchmarkTest() {
+    override val measureFirstResult = true
+
+    override fun variants() = listOf(
+        BenchmarkVariant("lifo") { rsm, input -> Gll.gll(rsm, input) },
+        BenchmarkVariant("fifo") { rsm, input ->
+            Gll.gll(rsm, input, DescriptorsStorage(FifoSchedulingPolicy()))
+        },
+        BenchmarkVariant("input position") { rsm, input ->
+            Gll.gll(rsm, input, DescriptorsStorage(InputPositionSchedulingPolicy.natural()))
+        },
+        BenchmarkVariant("rsm state priority") { rsm, input ->
+            Gll.gll(rsm, input, DescriptorsStorage(RsmStatePrioritySchedulingPolicy()))
+        },
+    )
+}
@@ -0,0 +1,55 @@
+package solver.correctnessTests.modes
+
+import org.junit.jupiter.api.Test
+import org.ucfs.input.InputGraph
+import org.ucfs.input.TerminalInputLabel
+import org.ucfs.parser.Gll
+import org.ucfs.parser.IGll
+import org.ucfs.rsm.RsmState
+import org.ucfs.sppf.getNodeView
+import org.ucfs.sppf.node.RangeSppfNode
+import kotlin.test.assertEquals
+
+/**
+ * Checks that parser in some non-default configuration builds the same derivation trees as default one.
+ * Trees are compared as sets of nodes and edges, because order of handling descriptors (and so order of children)
+ * may differ from default parser
+ */
+abstract class AbstractModeCorrectnessTest {
+    abstract fun createGll(rsm: RsmState, inputGraph: InputGraph<Int, TerminalInputLabel>): IGll<Int, TerminalInputLabel>
+
+    /**
+     * @return false if configuration doesn't support given input
+     */
+    open fun isApplicable(inputGraph: InputGraph<Int, TerminalInputLabel>): Boolean = true
+
+    @Test
+    fun checkSameTreesAsDefaultGll() {
+        forEachCorrectnessCase { grammar, caseName, readInput ->
+            if (!isApplicable(readInput())) return@forEachCorrectnessCase
+            val expected = getTreesView(Gll.gll(grammar.rsm, readInput()).parse())
+            val actual = getTreesView(createGll(grammar.rsm, readInput()).parse())
+            assertEquals(expected, actual, "for grammar ${grammar.name} at $caseName")
+        }
+    }
+}
+
+/**
+ * Sorted views of all nodes and edges, reachable from given roots
+ */
+fun <InputNode> getTreesView(roots: Set<RangeSppfNode<InputNode>>): List<String> {
+    val visited = HashSet<RangeSppfNode<InputNode>>()
+    val queue = ArrayDeque(roots)
+    val views = ArrayList<String>()
+    while (queue.isNotEmpty()) {
+        val node = queue.removeFirst()
+        if (!visited.add(node)) continue
+        val view = getNodeView(node)
+        views.add(view)
+        for (child in node.children) {
+            views.add("$view -> ${getNodeView(child)}")
+            queue.addLast(child)
+        }
+    }
+    return views.sorted()
+}
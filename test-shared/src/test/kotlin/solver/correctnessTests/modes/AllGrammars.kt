@@ -0,0 +1,55 @@
+package solver.correctnessTests.modes
+
+import org.ucfs.grammar.combinator.Grammar
+import org.ucfs.input.DotParser
+import org.ucfs.input.InputGraph
+import org.ucfs.input.TerminalInputLabel
+import solver.correctnessTests.ABGrammarTest.ABGrammar
+import solver.correctnessTests.AmbiguousAStar1GrammarTest.AmbiguousAStar1Grammar
+import solver.correctnessTests.AmbiguousAStar2GrammarTest.AmbiguousAStar2Grammar
+import solver.correctnessTests.AmbiguousAStar3GrammarTest.AmbiguousAStar3Grammar
+import solver.correctnessTests.BipartitleGrammarTest.BipartitleGrammar
+import solver.correctnessTests.EpsilonGrammarTest.EpsilonGrammar
+import solver.correctnessTests.LoopDyckGrammarTest.LoopDyckGrammar
+import solver.correctnessTests.SALangGrammarTest.SALangGrammar
+import solver.correctnessTests.SimplifiedDyckGrammarTest.SimplifiedDyckGrammar
+import solver.correctnessTests.StrangeDyckGrammarTest.StrangeDyckGrammar
+import solver.correctnessTests.dyckKParity.dyckAlphaGrammarKParity
+import solver.correctnessTests.dyckKParity.dyckBetaGrammarKParity
+import java.io.File
+import java.nio.file.Path
+
+/**
+ * All grammars with expected trees in correctness resources
+ */
+fun allCorrectnessGrammars(): List<Grammar> = listOf(
+    ABGrammar(),
+    AmbiguousAStar1Grammar(),
+    AmbiguousAStar2Grammar(),
+    AmbiguousAStar3Grammar(),
+    BipartitleGrammar(),
+    EpsilonGrammar(),
+    LoopDyckGrammar(),
+    SALangGrammar(),
+    SimplifiedDyckGrammar(),
+    StrangeDyckGrammar(),
+    dyckAlphaGrammarKParity(),
+    dyckBetaGrammarKParity(),
+)
+
+/**
+ * Runs action for each grammar and each its input in correctness resources
+ * @param action - gets grammar, name of test case and function to read test case's input graph
+ */
+fun forEachCorrectnessCase(action: (Grammar, String, () -> InputGraph<Int, TerminalInputLabel>) -> Unit) {
+    val rootPath = Path.of("src", "test", "resources", "correctness", "tree")
+    for (grammar in allCorrectnessGrammars()) {
+        val testCasesFolder = File(rootPath.resolve(grammar.name).toUri())
+        for (folder in testCasesFolder.listFiles() ?: arrayOf()) {
+            if (folder.isDirectory) {
+                val input = folder.resolve("input.dot").readText()
+                action(grammar, folder.name) { DotParser().parseDot(input) }
+            }
+        }
+    }
+}
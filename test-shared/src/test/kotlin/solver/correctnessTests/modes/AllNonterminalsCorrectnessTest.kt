@@ -0,0 +1,71 @@
+package solver.correctnessTests.modes
+
+import org.junit.jupiter.api.Test
+import org.ucfs.descriptors.Descriptor
+import org.ucfs.descriptors.DescriptorsStorage
+import org.ucfs.parser.Gll
+import org.ucfs.rsm.RsmState
+import org.ucfs.rsm.symbol.Nonterminal
+import kotlin.test.assertEquals
+import kotlin.test.assertFailsWith
+import kotlin.test.assertNull
+
+/**
+ * Checks that relations of all nonterminals, found in one run, are the same as found by separate runs
+ * with each nonterminal as starting one
+ */
+class AllNonterminalsCorrectnessTest {
+    /**
+     * @return start state of fictive box, which accepts only given nonterminal
+     */
+    private fun startWith(nonterminal: Nonterminal): RsmState {
+        val fictiveNonterminal = Nonterminal("fictiveStart")
+        val startState = RsmState(fictiveNonterminal, isStart = true)
+        fictiveNonterminal.startState = startState
+        startState.addEdge(nonterminal, RsmState(fictiveNonterminal, isFinal = true))
+        return startState
+    }
+
+    @Test
+    fun checkSameRelationsAsSeparateRuns() {
+        forEachCorrectnessCase { grammar, caseName, readInput ->
+            val relations = Gll.gll(grammar.rsm, readInput()).parseAllNonterminals()
+            for (nt in grammar.nonTerms) {
+                val expected = Gll.gll(startWith(nt.nonterm), readInput()).recognize()
+                assertEquals(
+                    expected,
+                    relations.getPairs(nt.nonterm),
+                    "for nonterminal ${nt.nonterm.name} of grammar ${grammar.name} at $caseName"
+                )
+                assertEquals(expected.size, relations.size(nt.nonterm))
+            }
+        }
+    }
+
+    @Test
+    fun checkRecognizerRelations() {
+        forEachCorrectnessCase { grammar, caseName, readInput ->
+            val expected = Gll.gll(grammar.rsm, readInput()).parseAllNonterminals()
+            val actual = Gll.recognizer(grammar.rsm, readInput()).parseAllNonterminals()
+            for (nt in grammar.nonTerms) {
+                assertEquals(expected.getPairs(nt.nonterm), actual.getPairs(nt.nonterm), "at $caseName")
+            }
+        }
+    }
+
+    @Test
+    fun checkRelationsAreResetAfterRun() {
+        forEachCorrectnessCase { grammar, caseName, readInput ->
+            val gll = Gll.gll(grammar.rsm, readInput())
+            gll.parseAllNonterminals()
+            assertNull(gll.ctx.relations, "at $caseName")
+
+            val failing = object : DescriptorsStorage<Int>() {
+                override fun nextToHandle(): Descriptor<Int>? = throw IllegalStateException()
+            }
+            val failedGll = Gll.gll(grammar.rsm, readInput(), failing)
+            assertFailsWith<IllegalStateException> { failedGll.parseAllNonterminals() }
+            assertNull(failedGll.ctx.relations, "at $caseName")
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package solver.correctnessTests.modes
+
+import org.junit.jupiter.api.Test
+import org.ucfs.descriptors.Descriptor
+import org.ucfs.gss.ClusteredGraphStructuredStack
+import org.ucfs.gss.GraphStructuredStack
+import org.ucfs.input.InputGraph
+import org.ucfs.input.TerminalInputLabel
+import org.ucfs.parser.Gll
+import org.ucfs.parser.IGll
+import org.ucfs.rsm.RsmState
+import org.ucfs.sppf.node.InputRange
+import org.ucfs.sppf.node.Range
+import org.ucfs.sppf.node.RangeSppfNode
+import solver.correctnessTests.SimplifiedDyckGrammarTest.SimplifiedDyckGrammar
+import kotlin.test.assertEquals
+import kotlin.test.assertFalse
+import kotlin.test.assertTrue
+
+class ClusteredGssCorrectnessTest : AbstractModeCorrectnessTest() {
+    override fun createGll(rsm: RsmState, inputGraph: InputGraph<Int, TerminalInputLabel>): IGll<Int, TerminalInputLabel> {
+        return Gll.gll(rsm, inputGraph, gss = ClusteredGraphStructuredStack())
+    }
+
+    @Test
+    fun checkPoppedEnds() {
+        val gss = ClusteredGraphStructuredStack<Int>()
+        val grammar = SimplifiedDyckGrammar()
+        // start states are set while RSM is built
+        grammar.rsm
+        val startState = grammar.S.nonterm.startState
+        val node = gss.getOrCreateNode(0, startState)
+        assertFalse(gss.isPoppedEnd(node, 1))
+        val range = RangeSppfNode(InputRange(0, 1), null, Range)
+        assertTrue(gss.pop(Descriptor(1, node, startState, range), range).isEmpty())
+        assertTrue(gss.isPoppedEnd(node, 1))
+        assertEquals(listOf(range), node.popped.byEnd[1])
+        assertFalse(gss.isPoppedEnd(node, 2))
+        assertFalse(gss.isPoppedEnd(gss.getOrCreateNode(1, startState), 1))
+        // default stack continues callers from every popped range
+        val defaultGss = GraphStructuredStack<Int>()
+        val defaultNode = defaultGss.getOrCreateNode(0, startState)
+        defaultGss.pop(Descriptor(1, defaultNode, startState, range), range)
+        assertFalse(defaultGss.isPoppedEnd(defaultNode, 1))
+    }
+}
@@ -0,0 +1,59 @@
+package solver.correctnessTests.modes
+
+import org.junit.jupiter.api.Test
+import org.ucfs.input.InputGraph
+import org.ucfs.input.TerminalInputLabel
+import org.ucfs.parser.Gll
+import org.ucfs.parser.IGll
+import org.ucfs.rsm.CompiledRsm
+import org.ucfs.rsm.RsmException
+import org.ucfs.rsm.RsmState
+import org.ucfs.rsm.symbol.ITerminal
+import kotlin.test.assertEquals
+import kotlin.test.assertFailsWith
+
+class CompiledRsmCorrectnessTest : AbstractModeCorrectnessTest() {
+    override fun createGll(rsm: RsmState, inputGraph: InputGraph<Int, TerminalInputLabel>): IGll<Int, TerminalInputLabel> {
+        return Gll.compiled(rsm, inputGraph)
+    }
+
+    @Test
+    fun checkSameTransitions() {
+        for (grammar in allCorrectnessGrammars()) {
+            val compiled = CompiledRsm.compile(grammar.rsm)
+            for ((id, state) in compiled.states.withIndex()) {
+                assertEquals(id, compiled.getId(state))
+                assertEquals(state.isFinal, compiled.isFinal[id])
+                for (edge in state.terminalEdgesStorage) {
+                    val terminal = edge.symbol as ITerminal
+                    val target = compiled.getTerminalTarget(id, compiled.getTerminalId(terminal))
+                    assertEquals(state.getTerminalEdge(terminal)!!.destinationState, compiled.states[target])
+                }
+                val nonterminalEdges = (compiled.nonterminalOffsets[id] until compiled.nonterminalOffsets[id + 1]).map {
+                    compiled.nonterminals[compiled.nonterminalLabels[it]] to compiled.states[compiled.nonterminalTargets[it]]
+                }
+                assertEquals(state.nonterminalEdgesStorage.map { it.symbol to it.destinationState }, nonterminalEdges)
+            }
+        }
+    }
+
+    @Test
+    fun checkForeignStateIsRejected() {
+        val grammars = allCorrectnessGrammars()
+        val compiled = CompiledRsm.compile(grammars[0].rsm)
+        val foreign = grammars[1].rsm
+        assertFailsWith<RsmException> { compiled.getId(foreign) }
+    }
+
+    @Test
+    fun checkRecompilationKeepsIds() {
+        for (grammar in allCorrectnessGrammars()) {
+            val first = CompiledRsm.compile(grammar.rsm)
+            val second = CompiledRsm.compile(grammar.rsm)
+            for ((id, state) in first.states.withIndex()) {
+                assertEquals(id, first.getId(state))
+                assertEquals(second.states.indexOf(state), second.getId(state))
+            }
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package solver.correctnessTests.modes
+
+import org.junit.jupiter.api.Test
+import org.ucfs.grammar.combinator.Grammar
+import org.ucfs.grammar.combinator.regexp.Many
+import org.ucfs.grammar.combinator.regexp.Nt
+import org.ucfs.grammar.combinator.regexp.or
+import org.ucfs.grammar.combinator.regexp.times
+import org.ucfs.input.InputGraph
+import org.ucfs.input.TerminalInputLabel
+import org.ucfs.parser.Gll
+import org.ucfs.parser.IGll
+import org.ucfs.parser.IncrementalGll
+import org.ucfs.parser.ParseBudget
+import org.ucfs.parser.ParseStatus
+import org.ucfs.rsm.RsmState
+import org.ucfs.rsm.symbol.Term
+import org.ucfs.sppf.node.RangeSppfNode
+import kotlin.test.assertEquals
+import kotlin.test.assertTrue
+
+class IncrementalCorrectnessTest : AbstractModeCorrectnessTest() {
+    /**
+     * Box of X has two final states, so both derivations of X over the same span are children of one nonterminal node
+     */
+    class MultiFinalGrammar : Grammar() {
+        val S by Nt().asStart()
+        val X by Nt(Term("a") or (Term("c") * Many(Term("d"))))
+
+        init {
+            S /= X
+        }
+    }
+
+    override fun createGll(rsm: RsmState, inputGraph: InputGraph<Int, TerminalInputLabel>): IGll<Int, TerminalInputLabel> {
+        return IncrementalGll.gll(rsm, inputGraph)
+    }
+
+    /**
+     * Parses graph without every second edge, then adds them back in two portions
+     */
+    @Test
+    fun checkSameTreesAfterAddingEdges() {
+        forEachCorrectnessCase { grammar, caseName, readInput ->
+            val fullInput = readInput()
+            val input = InputGraph<Int, TerminalInputLabel>()
+            fullInput.startVertices.forEach { input.addStartVertex(it) }
+            fullInput.vertices.forEach { input.addVertex(it) }
+            val postponed = ArrayList<Triple<Int, TerminalInputLabel, Int>>()
+            var edgeIndex = 0
+            for ((from, edges) in fullInput.edges) {
+                for (edge in edges) {
+                    if (edgeIndex++ % 2 == 1) {
+                        postponed.add(Triple(from, edge.label, edge.targetVertex))
+                    } else {
+                        input.addEdge(from, edge.label, edge.targetVertex)
+                    }
+                }
+            }
+
+            val gll = IncrementalGll.gll(grammar.rsm, input)
+            val results = HashSet<RangeSppfNode<Int>>(gll.parse())
+            for (portion in postponed.chunked(maxOf(1, (postponed.size + 1) / 2))) {
+                portion.forEach { (from, label, to) -> gll.addEdge(from, label, to) }
+                val newResults = gll.parse()
+                assertTrue(newResults.none { it in results }, "only new results expected at $caseName")
+                results.addAll(newResults)
+            }
+
+            val expected = getTreesView(Gll.gll(grammar.rsm, readInput()).parse())
+            assertEquals(expected, getTreesView(results), "for grammar ${grammar.name} at $caseName")
+        }
+    }
+
+    /**
+     * Parses whole graph, removes every second edge, then adds them back
+     */
+    @Test
+    fun checkSameTreesAfterRemovingEdges() {
+        forEachCorrectnessCase { grammar, caseName, readInput ->
+            val input = readInput()
+            val reducedInput = readInput()
+            val removed = ArrayList<Triple<Int, TerminalInputLabel, Int>>()
+            var edgeIndex = 0
+            for ((from, edges) in input.edges) {
+                for (edge in edges) {
+                    if (edgeIndex++ % 2 == 1) {
+                        removed.add(Triple(from, edge.label, edge.targetVertex))
+                    }
+                }
+            }
+            removed.forEach { (from, label, to) -> reducedInput.removeEdge(from, label, to) }
+
+            val gll = IncrementalGll.gll(grammar.rsm, input)
+            val results = HashSet<RangeSppfNode<Int>>(gll.parse())
+            for ((from, label, to) in removed) {
+                val removedResults = gll.removeEdge(from, label, to)
+                assertTrue(results.containsAll(removedResults))
+                results.removeAll(removedResults)
+            }
+            val expectedReduced = getTreesView(Gll.gll(grammar.rsm, reducedInput).parse())
+            assertEquals(expectedReduced, getTreesView(results), "after removing for ${grammar.name} at $caseName")
+
+            removed.forEach { (from, label, to) -> gll.addEdge(from, label, to) }
+            results.addAll(gll.parse())
+            val expected = getTreesView(Gll.gll(grammar.rsm, readInput()).parse())
+            assertEquals(expected, getTreesView(results), "after adding back for ${grammar.name} at $caseName")
+        }
+    }
+
+    /**
+     * Nonterminal node keeps derivation via the other final state of callee box after removing edge
+     */
+    @Test
+    fun checkAlternativeOfCalleeSurvivesRemoving() {
+        val grammar = MultiFinalGrammar()
+        fun createInput(): InputGraph<Int, TerminalInputLabel> {
+            val input = InputGraph<Int, TerminalInputLabel>()
+            input.addStartVertex(0)
+            input.addEdge(0, TerminalInputLabel(Term("a")), 1)
+            input.addEdge(0, TerminalInputLabel(Term("c")), 1)
+            return input
+        }
+        val gll = IncrementalGll.gll(grammar.rsm, createInput())
+        val results = HashSet<RangeSppfNode<Int>>(gll.parse())
+        assertEquals(setOf(0 to 1), results.mapTo(HashSet()) { it.inputRange!!.from to it.inputRange!!.to })
+
+        assertTrue(gll.removeEdge(0, TerminalInputLabel(Term("a")), 1).isEmpty())
+        val reducedInput = createInput()
+        reducedInput.removeEdge(0, TerminalInputLabel(Term("a")), 1)
+        assertEquals(getTreesView(Gll.gll(grammar.rsm, reducedInput).parse()), getTreesView(results))
+    }
+
+    /**
+     * Streaming and budgeted parsing continue the same parsing as [IncrementalGll.parse]
+     */
+    @Test
+    fun checkOtherEntryPointsAreIncremental() {
+        val grammar = MultiFinalGrammar()
+        val input = InputGraph<Int, TerminalInputLabel>()
+        input.addStartVertex(0)
+        input.addEdge(0, TerminalInputLabel(Term("c")), 1)
+        val gll = IncrementalGll.gll(grammar.rsm, input)
+        val results = HashSet(gll.parseSequence().toList())
+        assertEquals(setOf(0 to 1), results.mapTo(HashSet()) { it.inputRange!!.from to it.inputRange!!.to })
+
+        gll.addEdge(1, TerminalInputLabel(Term("d")), 2)
+        val added = gll.parseSequence().toList()
+        assertEquals(listOf(0 to 2), added.map { it.inputRange!!.from to it.inputRange!!.to })
+        results.addAll(added)
+
+        gll.addEdge(2, TerminalInputLabel(Term("d")), 3)
+        val budgeted = gll.parse(ParseBudget(maxDescriptors = 0))
+        assertEquals(ParseStatus.DESCRIPTORS_LIMIT_EXCEEDED, budgeted.status)
+        assertTrue(budgeted.results.isEmpty())
+        // descriptors, postponed by budget, are handled by the next call
+        val continued = gll.parseSequence().toList()
+        assertEquals(listOf(0 to 3), continued.map { it.inputRange!!.from to it.inputRange!!.to })
+        results.addAll(continued)
+
+        val removed = gll.removeEdge(1, TerminalInputLabel(Term("d")), 2)
+        assertEquals(setOf(0 to 2, 0 to 3), removed.mapTo(HashSet()) { it.inputRange!!.from to it.inputRange!!.to })
+        results.removeAll(removed)
+        assertTrue(gll.parseSequence().none())
+        val reducedInput = InputGraph<Int, TerminalInputLabel>()
+        reducedInput.addStartVertex(0)
+        reducedInput.addEdge(0, TerminalInputLabel(Term("c")), 1)
+        reducedInput.addEdge(2, TerminalInputLabel(Term("d")), 3)
+        assertEquals(getTreesView(Gll.gll(grammar.rsm, reducedInput).parse()), getTreesView(results))
+
+        gll.addEdge(1, TerminalInputLabel(Term("d")), 2)
+        val relations = gll.parseAllNonterminals()
+        assertEquals(setOf(0 to 2, 0 to 3), relations.getPairs(grammar.X.nonterm))
+    }
+}
@@ -0,0 +1,72 @@
+package solver.correctnessTests.modes
+
+import org.junit.jupiter.api.Test
+import org.ucfs.grammar.combinator.Grammar
+import org.ucfs.grammar.combinator.extension.StringExtension.or
+import org.ucfs.grammar.combinator.extension.StringExtension.times
+import org.ucfs.grammar.combinator.regexp.Epsilon
+import org.ucfs.grammar.combinator.regexp.Nt
+import org.ucfs.input.LinearInput
+import org.ucfs.parser.Gll
+import org.ucfs.rsm.inlineRsm
+import org.ucfs.rsm.symbol.Term
+import org.ucfs.sppf.node.TerminalType
+import kotlin.test.assertEquals
+import kotlin.test.assertTrue
+
+/**
+ * Inlining removes nonterminals from derivation trees, so only found paths are compared
+ */
+class InlinedRsmCorrectnessTest {
+    class WrappedDyckGrammar : Grammar() {
+        val S by Nt().asStart()
+        val Open by Nt("(" or "[")
+        val Close by Nt(")" or "]")
+
+        init {
+            S /= Open * S * Close * S or Epsilon
+        }
+    }
+
+    @Test
+    fun checkSamePathsAsDefaultGll() {
+        forEachCorrectnessCase { grammar, caseName, readInput ->
+            val expected = Gll.gll(grammar.rsm, readInput()).recognize()
+            val actual = Gll.gll(inlineRsm(grammar.rsm).startState, readInput()).recognize()
+            assertEquals(expected, actual, "for grammar ${grammar.name} at $caseName")
+        }
+    }
+
+    @Test
+    fun checkWrappersAreInlined() {
+        val grammar = WrappedDyckGrammar()
+        val inlined = inlineRsm(grammar.rsm, keepOrigins = true)
+        val input = LinearInput.buildFromString("( [ ] ) [ ]")
+        val default = Gll.gll(grammar.rsm, input)
+        val withInlining = Gll.gll(inlined.startState, input)
+        val results = withInlining.parse()
+        assertEquals(default.recognize(), results.mapTo(HashSet()) { it.inputRange!!.from to it.inputRange!!.to })
+        val nonterminals = withInlining.ctx.gss.getNodes().mapTo(HashSet()) {
+            it.rsm.nonterminal.name
+        }
+        assertEquals(setOf("fictiveStart", "S"), nonterminals)
+
+        // terminals of inlined boxes are mapped back to their nonterminals
+        val terminalOrigins = HashSet<Pair<String, String?>>()
+        val queue = ArrayDeque(results)
+        while (queue.isNotEmpty()) {
+            val node = queue.removeFirst()
+            for (child in node.children) {
+                val type = child.type
+                // terminal node is child of range node with RSM edge
+                if (type is TerminalType<*>) {
+                    val origin = inlined.getOrigin(node.rsmRange!!.from, type.terminal)
+                    terminalOrigins.add(type.terminal.toString() to origin?.nonterminal?.name)
+                }
+                queue.addLast(child)
+            }
+        }
+        assertTrue(("(" to "Open") in terminalOrigins)
+        assertTrue(("]" to "Close") in terminalOrigins)
+    }
+}
@@ -0,0 +1,41 @@
+package solver.correctnessTests.modes
+
+import org.junit.jupiter.api.Test
+import org.ucfs.gss.InternedGraphStructuredStack
+import org.ucfs.input.InputGraph
+import org.ucfs.input.TerminalInputLabel
+import org.ucfs.parser.Gll
+import org.ucfs.parser.IGll
+import org.ucfs.rsm.RsmState
+import solver.correctnessTests.SimplifiedDyckGrammarTest.SimplifiedDyckGrammar
+import kotlin.test.assertEquals
+import kotlin.test.assertFalse
+import kotlin.test.assertTrue
+
+class InternedGssCorrectnessTest : AbstractModeCorrectnessTest() {
+    override fun createGll(rsm: RsmState, inputGraph: InputGraph<Int, TerminalInputLabel>): IGll<Int, TerminalInputLabel> {
+        return Gll.gll(rsm, inputGraph, gss = InternedGraphStructuredStack())
+    }
+
+    @Test
+    fun checkNodesAreInterned() {
+        val gss = InternedGraphStructuredStack<Int>()
+        val grammar = SimplifiedDyckGrammar()
+        val states = listOf(grammar.rsm, grammar.S.nonterm.startState)
+        // more nodes than initial capacity of the table
+        val nodes = (0 until 1000).flatMap { vertex -> states.map { gss.getOrCreateNode(vertex, it) } }
+        assertEquals(2000, gss.size)
+        var i = 0
+        for (vertex in 0 until 1000) {
+            for (state in states) {
+                val node = gss.getOrCreateNode(vertex, state)
+                assertTrue(nodes[i++] === node)
+                assertEquals(vertex, node.inputPosition)
+                assertEquals(state, node.rsm)
+            }
+        }
+        assertEquals(2000, gss.size)
+        assertEquals(nodes, gss.getNodes().toList())
+        assertFalse(gss.getOrCreateNode(0, states[0]) === gss.getOrCreateNode(0, states[1]))
+    }
+}
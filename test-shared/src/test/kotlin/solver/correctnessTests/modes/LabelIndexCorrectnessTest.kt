@@ -0,0 +1,104 @@
+package solver.correctnessTests.modes
+
+import org.junit.jupiter.api.Test
+import org.ucfs.grammar.combinator.Grammar
+import org.ucfs.grammar.combinator.regexp.Nt
+import org.ucfs.grammar.combinator.regexp.or
+import org.ucfs.grammar.combinator.regexp.times
+import org.ucfs.input.Edge
+import org.ucfs.input.InputGraph
+import org.ucfs.input.TerminalInputLabel
+import org.ucfs.parser.Gll
+import org.ucfs.parser.IGll
+import org.ucfs.rsm.RsmState
+import org.ucfs.rsm.symbol.ITerminal
+import org.ucfs.rsm.symbol.Term
+import kotlin.test.assertEquals
+import kotlin.test.assertTrue
+
+/**
+ * Default parser joins input and RSM edges through label indexes, here it is compared with parser on input graph
+ * without index, where each outgoing edge is looked up in RSM state
+ */
+class LabelIndexCorrectnessTest : AbstractModeCorrectnessTest() {
+    class UnindexedInputGraph : InputGraph<Int, TerminalInputLabel>() {
+        override val isIndexedByTerminal: Boolean
+            get() = false
+    }
+
+    /**
+     * Counts lookups of edges by terminal for each vertex
+     */
+    class CountingInputGraph : InputGraph<Int, TerminalInputLabel>() {
+        val lookups = HashMap<Int, Int>()
+
+        override fun getEdges(from: Int, terminal: ITerminal): List<Edge<Int, TerminalInputLabel>> {
+            lookups.merge(from, 1, Int::plus)
+            return super.getEdges(from, terminal)
+        }
+    }
+
+    class ThreeEndingsGrammar : Grammar() {
+        val S by Nt(Term("a") * (Term("b") or Term("c") or Term("d"))).asStart()
+    }
+
+    override fun createGll(rsm: RsmState, inputGraph: InputGraph<Int, TerminalInputLabel>): IGll<Int, TerminalInputLabel> {
+        return Gll.gll(rsm, copyGraph(inputGraph, UnindexedInputGraph()))
+    }
+
+    private fun <Graph : InputGraph<Int, TerminalInputLabel>> copyGraph(
+        from: InputGraph<Int, TerminalInputLabel>, to: Graph
+    ): Graph {
+        from.vertices.forEach { to.addVertex(it) }
+        from.startVertices.forEach { to.addStartVertex(it) }
+        for ((vertex, edges) in from.edges) {
+            edges.forEach { to.addEdge(vertex, it.label, it.targetVertex) }
+        }
+        return to
+    }
+
+    /**
+     * Vertex 0 has more outgoing edges than start state of RSM, so RSM edges are looked up in input.
+     * Vertex 1 has less edges than the next state, so its input edges are looked up in RSM state
+     */
+    @Test
+    fun checkBothSidesOfJoin() {
+        val grammar = ThreeEndingsGrammar()
+        val input = CountingInputGraph()
+        input.addStartVertex(0)
+        for (label in 0 until 300) {
+            input.addEdge(0, TerminalInputLabel(Term("x$label")), 1000 + label)
+        }
+        input.addEdge(0, TerminalInputLabel(Term("a")), 1)
+        input.addEdge(1, TerminalInputLabel(Term("b")), 2)
+        input.addEdge(1, TerminalInputLabel(Term("d")), 3)
+
+        val actual = getTreesView(Gll.gll(grammar.rsm, input).parse())
+        val expected = getTreesView(Gll.gll(grammar.rsm, copyGraph(input, UnindexedInputGraph())).parse())
+        assertEquals(expected, actual)
+        assertTrue(actual.isNotEmpty())
+        assertEquals(1, input.lookups[0])
+        assertEquals(null, input.lookups[1])
+    }
+
+    @Test
+    fun checkIndexIsUpdatedWithEdges() {
+        val input = InputGraph<Int, TerminalInputLabel>()
+        val a = Term("a")
+        input.addEdge(0, TerminalInputLabel(a), 1)
+        input.addEdge(0, TerminalInputLabel(Term("b")), 2)
+        assertEquals(listOf(1), input.getEdges(0, a).map { it.targetVertex })
+
+        input.addEdge(0, TerminalInputLabel(a), 3)
+        assertEquals(listOf(1, 3), input.getEdges(0, a).map { it.targetVertex })
+
+        input.removeEdge(0, TerminalInputLabel(a), 1)
+        assertEquals(listOf(3), input.getEdges(0, a).map { it.targetVertex })
+
+        input.removeEdge(0, TerminalInputLabel(a), 3)
+        assertTrue(input.getEdges(0, a).isEmpty())
+        assertEquals(listOf(2), input.getEdges(0, Term("b")).map { it.targetVertex })
+        assertEquals(listOf(2), input.edges.getValue(0).map { it.targetVertex })
+        assertTrue(input.getEdges(2).isEmpty())
+    }
+}
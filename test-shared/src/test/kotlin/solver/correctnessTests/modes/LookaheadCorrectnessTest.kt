@@ -0,0 +1,106 @@
+package solver.correctnessTests.modes
+
+import org.junit.jupiter.api.Test
+import org.ucfs.grammar.combinator.Grammar
+import org.ucfs.grammar.combinator.extension.StringExtension.or
+import org.ucfs.grammar.combinator.extension.StringExtension.times
+import org.ucfs.grammar.combinator.regexp.Nt
+import org.ucfs.grammar.combinator.regexp.Option
+import org.ucfs.input.InputGraph
+import org.ucfs.input.LinearInput
+import org.ucfs.input.TerminalInputLabel
+import org.ucfs.parser.Gll
+import org.ucfs.parser.IGll
+import org.ucfs.rsm.FirstSets
+import org.ucfs.rsm.RsmState
+import org.ucfs.rsm.inlineRsm
+import org.ucfs.rsm.symbol.Nonterminal
+import org.ucfs.rsm.symbol.Term
+import kotlin.test.assertEquals
+import kotlin.test.assertFalse
+import kotlin.test.assertTrue
+
+class LookaheadCorrectnessTest : AbstractModeCorrectnessTest() {
+    override fun createGll(rsm: RsmState, inputGraph: InputGraph<Int, TerminalInputLabel>): IGll<Int, TerminalInputLabel> {
+        return Gll.gll(rsm, inputGraph, lookahead = FirstSets.compute(rsm))
+    }
+
+    class NullableCallGrammar : Grammar() {
+        val S by Nt().asStart()
+        val A by Nt()
+        val T by Nt()
+
+        init {
+            S /= A * "c" or T or "b"
+            A /= Option("a" * A)
+            T /= "t" * T or "t"
+        }
+    }
+
+    @Test
+    fun checkFirstSets() {
+        val grammar = NullableCallGrammar()
+        val firstSets = grammar.firstSets
+        val sStart = grammar.S.nonterm.startState
+        val aStart = grammar.A.nonterm.startState
+        val tStart = grammar.T.nonterm.startState
+        assertEquals(setOf(Term("a"), Term("c"), Term("t"), Term("b")), firstSets.getFirst(sStart))
+        assertEquals(setOf(Term("a")), firstSets.getFirst(aStart))
+        assertEquals(setOf(Term("t")), firstSets.getFirst(tStart))
+        assertFalse(firstSets.isNullable(sStart))
+        assertTrue(firstSets.isNullable(aStart))
+        assertFalse(firstSets.isNullable(tStart))
+    }
+
+    @Test
+    fun checkCallIsPruned() {
+        val grammar = NullableCallGrammar()
+        val withoutLookahead = Gll.gll(grammar.rsm, LinearInput.buildFromString("b"))
+        val withLookahead = Gll.gll(grammar.rsm, LinearInput.buildFromString("b"), lookahead = grammar.firstSets)
+        assertEquals(
+            withoutLookahead.recognize(), withLookahead.recognize()
+        )
+        val nodesWithout = withoutLookahead.ctx.gss.getNodes().map { it.rsm.nonterminal }
+        val nodesWith = withLookahead.ctx.gss.getNodes().map { it.rsm.nonterminal }
+        // A is nullable, so it is still called, T can't start with "b"
+        assertTrue(grammar.T.nonterm in nodesWithout)
+        assertFalse(grammar.T.nonterm in nodesWith)
+        assertTrue(grammar.A.nonterm in nodesWith)
+    }
+
+    /**
+     * B is inlined into C, so C gets new states around the call of recursive D
+     */
+    class InlinableCallGrammar : Grammar() {
+        val S by Nt().asStart()
+        val C by Nt()
+        val B by Nt()
+        val D by Nt()
+
+        init {
+            S /= C or "b"
+            C /= B * "c"
+            B /= "a" * D * "a"
+            D /= "d" * D or "d"
+        }
+    }
+
+    @Test
+    fun checkUnknownStatesAreNotFiltered() {
+        val grammar = InlinableCallGrammar()
+        val firstSets = grammar.firstSets
+        val inlinedStart = inlineRsm(grammar.rsm).startState
+        val inlinedC = inlinedStart.nonterminalEdgesStorage.single().symbol as Nonterminal
+        val newStates = inlinedC.getStates().filter { it !in firstSets }
+        assertTrue(newStates.isNotEmpty())
+        val input = LinearInput.buildFromString("x")
+        assertTrue(newStates.all { firstSets.canStartAt(it, input, 0) })
+        for (sentence in listOf("b", "a d a c", "a d d d a c", "a a c", "a d a")) {
+            assertEquals(
+                Gll.gll(grammar.rsm, LinearInput.buildFromString(sentence)).recognize(),
+                Gll.gll(inlinedStart, LinearInput.buildFromString(sentence), lookahead = firstSets).recognize(),
+                sentence
+            )
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package solver.correctnessTests.modes
+
+import org.junit.jupiter.api.Test
+import org.ucfs.grammar.combinator.Grammar
+import org.ucfs.grammar.combinator.extension.StringExtension.or
+import org.ucfs.grammar.combinator.extension.StringExtension.times
+import org.ucfs.grammar.combinator.regexp.Epsilon
+import org.ucfs.grammar.combinator.regexp.Many
+import org.ucfs.grammar.combinator.regexp.Nt
+import org.ucfs.input.LinearInput
+import org.ucfs.parser.Gll
+import org.ucfs.rsm.getStatesCount
+import org.ucfs.rsm.minimizeRsm
+import org.ucfs.rsm.symbol.Term
+import kotlin.test.assertEquals
+
+/**
+ * Minimization changes RSM states in derivation trees, so only found paths are compared
+ */
+class MinimizedRsmCorrectnessTest {
+    class RedundantGrammar : Grammar() {
+        val S by Nt().asStart()
+
+        init {
+            // states after "a" and after "d" both accept b*
+            S /= "a" * Many(Term("b")) or "d" * ("b" * Many(Term("b")) or Epsilon)
+        }
+    }
+
+    @Test
+    fun checkSamePathsAsDefaultGll() {
+        forEachCorrectnessCase { grammar, caseName, readInput ->
+            val expected = Gll.gll(grammar.rsm, readInput()).recognize()
+            val actual = Gll.gll(minimizeRsm(grammar.rsm), readInput()).recognize()
+            assertEquals(expected, actual, "for grammar ${grammar.name} at $caseName")
+        }
+    }
+
+    @Test
+    fun checkEquivalentStatesAreMerged() {
+        val grammar = RedundantGrammar()
+        val minimized = minimizeRsm(grammar.rsm)
+        assertEquals(getStatesCount(grammar.rsm) - 1, getStatesCount(minimized))
+        assertEquals(getStatesCount(minimized), getStatesCount(minimizeRsm(minimized)))
+        val input = LinearInput.buildFromString("d b b")
+        assertEquals(Gll.gll(grammar.rsm, input).recognize(), Gll.gll(minimized, input).recognize())
+    }
+}
@@ -0,0 +1,14 @@
+package solver.correctnessTests.modes
+
+import org.ucfs.descriptors.PackedDescriptorsStorage
+import org.ucfs.input.InputGraph
+import org.ucfs.input.TerminalInputLabel
+import org.ucfs.parser.Gll
+import org.ucfs.parser.IGll
+import org.ucfs.rsm.RsmState
+
+class PackedDescriptorsCorrectnessTest : AbstractModeCorrectnessTest() {
+    override fun createGll(rsm: RsmState, inputGraph: InputGraph<Int, TerminalInputLabel>): IGll<Int, TerminalInputLabel> {
+        return Gll.gll(rsm, inputGraph, PackedDescriptorsStorage())
+    }
+}
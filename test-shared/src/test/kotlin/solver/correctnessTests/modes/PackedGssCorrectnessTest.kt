@@ -0,0 +1,57 @@
+package solver.correctnessTests.modes
+
+import org.junit.jupiter.api.Test
+import org.ucfs.descriptors.Descriptor
+import org.ucfs.gss.PackedGraphStructuredStack
+import org.ucfs.input.InputGraph
+import org.ucfs.input.TerminalInputLabel
+import org.ucfs.parser.Gll
+import org.ucfs.parser.IGll
+import org.ucfs.rsm.RsmState
+import org.ucfs.sppf.node.InputRange
+import org.ucfs.sppf.node.Range
+import org.ucfs.sppf.node.RangeSppfNode
+import solver.correctnessTests.SimplifiedDyckGrammarTest.SimplifiedDyckGrammar
+import kotlin.test.assertEquals
+import kotlin.test.assertTrue
+
+class PackedGssCorrectnessTest : AbstractModeCorrectnessTest() {
+    override fun createGll(rsm: RsmState, inputGraph: InputGraph<Int, TerminalInputLabel>): IGll<Int, TerminalInputLabel> {
+        return Gll.gll(rsm, inputGraph, gss = PackedGraphStructuredStack())
+    }
+
+    @Test
+    fun checkEdgesArePopped() {
+        val gss = PackedGraphStructuredStack<Int>()
+        val grammar = SimplifiedDyckGrammar()
+        // start states are set while RSM is built
+        grammar.rsm
+        val startState = grammar.S.nonterm.startState
+        val returnState = startState.outgoingEdges.first().destinationState
+        val called = gss.getOrCreateNode(0, startState)
+        // more edges than in one segment
+        val callersCount = 20000
+        for (vertex in 1..callersCount) {
+            val caller = gss.getOrCreateNode(vertex, grammar.rsm)
+            val range = RangeSppfNode(InputRange(vertex, 0), null, Range)
+            val (node, popped) = gss.addEdge(caller, returnState, 0, startState, range)
+            assertTrue(node === called)
+            assertTrue(popped.byEnd.isEmpty())
+        }
+        assertEquals(callersCount, gss.edgesCount)
+        assertEquals(callersCount + 1, gss.size)
+        assertTrue(called in gss.getNodes())
+        // edges are kept only in segments
+        assertTrue(called.outgoingEdges.isEmpty())
+        val poppedRange = RangeSppfNode(InputRange(0, 1), null, Range)
+        val edges = gss.pop(Descriptor(1, called, startState, poppedRange), poppedRange)
+        assertEquals(callersCount, edges.size)
+        assertEquals((1..callersCount).toSet(), edges.mapTo(HashSet()) { it.gssNode.inputPosition })
+        for (edge in edges) {
+            assertEquals(returnState, edge.state)
+            assertEquals(InputRange(edge.gssNode.inputPosition, 0), edge.matchedRange.inputRange)
+        }
+        // range is popped only once
+        assertTrue(gss.pop(Descriptor(1, called, startState, poppedRange), poppedRange).isEmpty())
+    }
+}
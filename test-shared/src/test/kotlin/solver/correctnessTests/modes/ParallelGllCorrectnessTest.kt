@@ -0,0 +1,53 @@
+package solver.correctnessTests.modes
+
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.Test
+import org.ucfs.gss.ConcurrentGraphStructuredStack
+import org.ucfs.parser.Gll
+import org.ucfs.parser.ParallelGll
+import solver.correctnessTests.modes.LookaheadCorrectnessTest.NullableCallGrammar
+import java.util.concurrent.Callable
+import java.util.concurrent.ForkJoinPool
+import kotlin.test.assertEquals
+
+/**
+ * [ParallelGll] isn't an [org.ucfs.parser.IGll], so it is compared with default parser here
+ * instead of [AbstractModeCorrectnessTest]
+ */
+class ParallelGllCorrectnessTest {
+    private val pool = ForkJoinPool(4)
+
+    @AfterEach
+    fun shutdownPool() {
+        pool.shutdown()
+    }
+
+    @Test
+    fun checkSameTreesAsDefaultGll() {
+        forEachCorrectnessCase { grammar, caseName, readInput ->
+            val expected = getTreesView(Gll.gll(grammar.rsm, readInput()).parse())
+            val actual = getTreesView(ParallelGll.gll(grammar.rsm, readInput(), pool).parse())
+            assertEquals(expected, actual, "for grammar ${grammar.name} at $caseName")
+        }
+    }
+
+    @Test
+    fun checkSamePairsAsDefaultGll() {
+        forEachCorrectnessCase { grammar, caseName, readInput ->
+            val expected = Gll.gll(grammar.rsm, readInput()).recognize()
+            val actual = ParallelGll.gll(grammar.rsm, readInput(), pool).recognize()
+            assertEquals(expected, actual, "for grammar ${grammar.name} at $caseName")
+        }
+    }
+
+    @Test
+    fun checkGssNodeIdsAreUnique() {
+        val gss = ConcurrentGraphStructuredStack<Int>()
+        val state = NullableCallGrammar().rsm
+        val tasks = (0 until 4).map { thread ->
+            Callable { (0 until 10000).map { gss.getOrCreateNode(thread * 10000 + it, state).id } }
+        }
+        val ids = pool.invokeAll(tasks).flatMap { it.get() }
+        assertEquals(40000, ids.toSet().size)
+    }
+}
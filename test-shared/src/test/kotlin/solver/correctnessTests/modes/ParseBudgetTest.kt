@@ -0,0 +1,99 @@
+package solver.correctnessTests.modes
+
+import org.junit.jupiter.api.Test
+import org.ucfs.descriptors.Descriptor
+import org.ucfs.descriptors.DescriptorsStorage
+import org.ucfs.input.DotParser
+import org.ucfs.input.TerminalInputLabel
+import org.ucfs.parser.Gll
+import org.ucfs.parser.IGll
+import org.ucfs.parser.ParseBudget
+import org.ucfs.parser.ParseStatus
+import org.ucfs.sppf.node.RangeSppfNode
+import solver.benchmarks.CAliasTest.CAliasGrammar
+import java.io.File
+import java.util.concurrent.CountDownLatch
+import kotlin.concurrent.thread
+import kotlin.test.assertEquals
+import kotlin.test.assertFailsWith
+import kotlin.test.assertTrue
+
+class ParseBudgetTest {
+    private val grammar = CAliasGrammar()
+
+    private val input = File("src/test/resources/benchmarks/CAliasGrammar/smallTest/input.dot").readText()
+
+    private fun createGll() = Gll.gll(grammar.rsm, DotParser().parseDot(input))
+
+    private fun getRanges(results: Set<RangeSppfNode<Int>>) = results.map { it.inputRange!!.from to it.inputRange!!.to }
+
+    @Test
+    fun checkUnlimitedBudget() {
+        val expected = getRanges(createGll().parse()).toSet()
+        val result = createGll().parse(ParseBudget())
+        assertEquals(ParseStatus.COMPLETE, result.status)
+        assertEquals(expected, getRanges(result.results).toSet())
+    }
+
+    @Test
+    fun checkDescriptorsLimit() {
+        val expected = getRanges(createGll().parse()).toSet()
+        val result = createGll().parse(ParseBudget(maxDescriptors = 500))
+        assertEquals(ParseStatus.DESCRIPTORS_LIMIT_EXCEEDED, result.status)
+        assertTrue(result.results.size < expected.size)
+        assertTrue(expected.containsAll(getRanges(result.results)))
+    }
+
+    @Test
+    fun checkDeadline() {
+        val result = createGll().parse(ParseBudget(timeoutMillis = 0))
+        assertEquals(ParseStatus.DEADLINE_EXCEEDED, result.status)
+        assertTrue(result.results.isEmpty())
+    }
+
+    @Test
+    fun checkHeapLimit() {
+        val result = createGll().parse(ParseBudget(maxHeapBytes = 1))
+        assertEquals(ParseStatus.HEAP_LIMIT_EXCEEDED, result.status)
+    }
+
+    @Test
+    fun checkInvalidLimitsAreRejected() {
+        assertFailsWith<IllegalArgumentException> { ParseBudget(checkInterval = 0) }
+        assertFailsWith<IllegalArgumentException> { ParseBudget(checkInterval = -1) }
+        assertFailsWith<IllegalArgumentException> { ParseBudget(timeoutMillis = -1) }
+        assertFailsWith<IllegalArgumentException> { ParseBudget(maxDescriptors = -1) }
+        assertFailsWith<IllegalArgumentException> { ParseBudget(maxHeapBytes = -1) }
+        // zero limits are valid, parsing stops before the first descriptor
+        val result = createGll().parse(ParseBudget(maxDescriptors = 0, checkInterval = 1))
+        assertEquals(ParseStatus.DESCRIPTORS_LIMIT_EXCEEDED, result.status)
+    }
+
+    @Test
+    fun checkCancellationFromAnotherThread() {
+        val expected = getRanges(createGll().parse()).toSet()
+        val budget = ParseBudget()
+        val firstResultFound = CountDownLatch(1)
+        val canceller = thread {
+            firstResultFound.await()
+            budget.cancel()
+        }
+        lateinit var gll: IGll<Int, TerminalInputLabel>
+        // parsing waits for another thread to cancel it after the first result, so the test is deterministic
+        val descriptors = object : DescriptorsStorage<Int>() {
+            override fun nextToHandle(): Descriptor<Int>? {
+                if (firstResultFound.count > 0 && gll.ctx.parseResults.isNotEmpty()) {
+                    firstResultFound.countDown()
+                    canceller.join()
+                }
+                return super.nextToHandle()
+            }
+        }
+        gll = Gll.gll(grammar.rsm, DotParser().parseDot(input), descriptors)
+        val result = gll.parse(budget)
+        assertEquals(ParseStatus.CANCELLED, result.status)
+        assertTrue(result.results.isNotEmpty())
+        assertTrue(result.results.size < expected.size)
+        assertTrue(expected.containsAll(getRanges(result.results)))
+    }
+}
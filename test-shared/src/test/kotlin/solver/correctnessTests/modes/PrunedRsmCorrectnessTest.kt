@@ -0,0 +1,62 @@
+package solver.correctnessTests.modes
+
+import org.junit.jupiter.api.Test
+import org.ucfs.input.InputGraph
+import org.ucfs.input.LinearInput
+import org.ucfs.input.TerminalInputLabel
+import org.ucfs.input.getLabelAlphabet
+import org.ucfs.parser.Gll
+import org.ucfs.parser.IGll
+import org.ucfs.rsm.RsmState
+import org.ucfs.rsm.pruneRsm
+import org.ucfs.rsm.symbol.Nonterminal
+import org.ucfs.rsm.symbol.Term
+import solver.correctnessTests.modes.LookaheadCorrectnessTest.NullableCallGrammar
+import kotlin.test.assertEquals
+
+class PrunedRsmCorrectnessTest : AbstractModeCorrectnessTest() {
+    override fun createGll(rsm: RsmState, inputGraph: InputGraph<Int, TerminalInputLabel>): IGll<Int, TerminalInputLabel> {
+        return Gll.gll(pruneRsm(rsm, inputGraph.getLabelAlphabet()), inputGraph)
+    }
+
+    private fun getNonterminals(startState: RsmState): Set<Nonterminal> {
+        val nonterminals = hashSetOf(startState.nonterminal)
+        val queue = ArrayDeque(nonterminals)
+        while (queue.isNotEmpty()) {
+            for (state in queue.removeFirst().getStates()) {
+                for (edge in state.nonterminalEdgesStorage) {
+                    val nonterminal = edge.symbol as Nonterminal
+                    if (nonterminals.add(nonterminal)) {
+                        queue.addLast(nonterminal)
+                    }
+                }
+            }
+        }
+        return nonterminals
+    }
+
+    @Test
+    fun checkAlphabet() {
+        val input = LinearInput.buildFromString("a b a")
+        input.addEdge(10, TerminalInputLabel(Term("unreachable")), 11)
+        assertEquals(setOf(Term("a"), Term("b")), input.getLabelAlphabet())
+    }
+
+    @Test
+    fun checkUnproductiveNonterminalIsRemoved() {
+        val grammar = NullableCallGrammar()
+        // without "t" nonterminal T is unproductive, without "c" so is path through A
+        val pruned = pruneRsm(grammar.rsm, setOf(Term("a"), Term("b")))
+        assertEquals(setOf("fictiveStart", "S"), getNonterminals(pruned).mapTo(HashSet()) { it.name })
+        val input = LinearInput.buildFromString("b")
+        assertEquals(Gll.gll(grammar.rsm, input).recognize(), Gll.gll(pruned, input).recognize())
+    }
+
+    @Test
+    fun checkUnproductiveStartNonterminal() {
+        val grammar = NullableCallGrammar()
+        val input = LinearInput.buildFromString("a")
+        val pruned = pruneRsm(grammar.rsm, input.getLabelAlphabet())
+        assertEquals(emptySet(), Gll.gll(pruned, input).recognize())
+    }
+}
@@ -0,0 +1,16 @@
+package solver.correctnessTests.modes
+
+import org.junit.jupiter.api.Test
+import org.ucfs.parser.Gll
+import kotlin.test.assertEquals
+
+class RecognizerCorrectnessTest {
+    @Test
+    fun checkSamePairsAsDefaultGll() {
+        forEachCorrectnessCase { grammar, caseName, readInput ->
+            val expected = Gll.gll(grammar.rsm, readInput()).recognize()
+            val actual = Gll.recognizer(grammar.rsm, readInput()).recognize()
+            assertEquals(expected, actual, "for grammar ${grammar.name} at $caseName")
+        }
+    }
+}
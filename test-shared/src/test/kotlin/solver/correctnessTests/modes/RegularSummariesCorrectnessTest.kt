@@ -0,0 +1,54 @@
+package solver.correctnessTests.modes
+
+import org.junit.jupiter.api.Test
+import org.ucfs.grammar.combinator.Grammar
+import org.ucfs.grammar.combinator.regexp.Many
+import org.ucfs.grammar.combinator.regexp.Nt
+import org.ucfs.grammar.combinator.regexp.or
+import org.ucfs.grammar.combinator.regexp.times
+import org.ucfs.input.InputGraph
+import org.ucfs.input.TerminalInputLabel
+import org.ucfs.parser.Gll
+import org.ucfs.parser.RegularSummaries
+import org.ucfs.rsm.symbol.Term
+import kotlin.test.assertEquals
+
+/**
+ * Derivation trees of regular nonterminals aren't built, so only found paths are compared
+ */
+class RegularSummariesCorrectnessTest {
+    class PathQueryGrammar : Grammar() {
+        val S by Nt().asStart()
+        val Step by Nt(Term("a") or Term("b"))
+
+        init {
+            S /= Many(Step) * Term("c")
+        }
+    }
+
+    @Test
+    fun checkSamePathsAsDefaultGll() {
+        forEachCorrectnessCase { grammar, caseName, readInput ->
+            val expected = Gll.gll(grammar.rsm, readInput()).recognize()
+            val input = readInput()
+            val actual = Gll.gll(grammar.rsm, input, summaries = RegularSummaries(grammar.rsm, input)).recognize()
+            assertEquals(expected, actual, "for grammar ${grammar.name} at $caseName")
+        }
+    }
+
+    @Test
+    fun checkPathQueryWithoutGss() {
+        val grammar = PathQueryGrammar()
+        val input = InputGraph<Int, TerminalInputLabel>()
+        input.addStartVertex(0)
+        for (vertex in 0 until 20) {
+            input.addEdge(vertex, TerminalInputLabel(Term(if (vertex % 2 == 0) "a" else "b")), (vertex + 1) % 20)
+            input.addEdge(vertex, TerminalInputLabel(Term("c")), 100 + vertex)
+        }
+        val gll = Gll.gll(grammar.rsm, input, summaries = RegularSummaries(grammar.rsm, input))
+        assertEquals(Gll.gll(grammar.rsm, input).recognize(), gll.recognize())
+        assertEquals(20, gll.ctx.parseResults.size)
+        // only node of accepting nonterminal is created
+        assertEquals(1, gll.ctx.gss.size)
+    }
+}
@@ -0,0 +1,69 @@
+package solver.correctnessTests.modes
+
+import org.junit.jupiter.api.Test
+import org.ucfs.input.InputGraph
+import org.ucfs.input.LinearInput
+import org.ucfs.input.TerminalInputLabel
+import org.ucfs.parser.Gll
+import org.ucfs.parser.IGll
+import org.ucfs.rsm.FirstSets
+import org.ucfs.rsm.RsmState
+import org.ucfs.rsm.inlineRsm
+import solver.benchmarks.CountingDescriptorsStorage
+import solver.correctnessTests.modes.LookaheadCorrectnessTest.InlinableCallGrammar
+import solver.correctnessTests.modes.LookaheadCorrectnessTest.NullableCallGrammar
+import kotlin.test.assertEquals
+
+class ReturnLookaheadCorrectnessTest : AbstractModeCorrectnessTest() {
+    override fun createGll(rsm: RsmState, inputGraph: InputGraph<Int, TerminalInputLabel>): IGll<Int, TerminalInputLabel> {
+        val firstSets = FirstSets.compute(rsm)
+        return Gll.gll(rsm, inputGraph, lookahead = firstSets, returnLookahead = firstSets)
+    }
+
+    @Test
+    fun checkReturnIsSkipped() {
+        val grammar = NullableCallGrammar()
+        // after "a a" A returns to the state before "c", which can't read "d"
+        val input = LinearInput.buildFromString("a a d")
+        val withoutLookahead = Gll.gll(grammar.rsm, input, CountingDescriptorsStorage())
+        val withLookahead = Gll.gll(
+            grammar.rsm, input, CountingDescriptorsStorage(), returnLookahead = grammar.firstSets
+        )
+        assertEquals(withoutLookahead.recognize(), withLookahead.recognize())
+        // returns of A in vertices 0, 1 and 2 are skipped
+        assertEquals(
+            (withoutLookahead.ctx.descriptors as CountingDescriptorsStorage).handledCount - 3,
+            (withLookahead.ctx.descriptors as CountingDescriptorsStorage).handledCount
+        )
+        assertEquals(
+            withoutLookahead.ctx.gss.size,
+            withLookahead.ctx.gss.size
+        )
+    }
+
+    /**
+     * FIRST sets of original RSM don't know states created by inlining, so returns to them are never skipped
+     */
+    @Test
+    fun checkSamePathsOnInlinedRsm() {
+        forEachCorrectnessCase { grammar, caseName, readInput ->
+            val expected = Gll.gll(grammar.rsm, readInput()).recognize()
+            val actual = Gll.gll(
+                inlineRsm(grammar.rsm).startState, readInput(),
+                lookahead = grammar.firstSets, returnLookahead = grammar.firstSets
+            ).recognize()
+            assertEquals(expected, actual, "for grammar ${grammar.name} at $caseName")
+        }
+        val grammar = InlinableCallGrammar()
+        val inlinedStart = inlineRsm(grammar.rsm).startState
+        // D returns to the state between "d" and "a", which exists only in inlined C
+        for (sentence in listOf("a d a c", "a d d a c", "a d c")) {
+            val input = LinearInput.buildFromString(sentence)
+            assertEquals(
+                Gll.gll(grammar.rsm, input).recognize(),
+                Gll.gll(inlinedStart, input, returnLookahead = grammar.firstSets).recognize(),
+                sentence
+            )
+        }
+    }
+}
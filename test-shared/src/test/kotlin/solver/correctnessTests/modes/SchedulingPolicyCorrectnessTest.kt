@@ -0,0 +1,29 @@
+package solver.correctnessTests.modes
+
+import org.ucfs.descriptors.DescriptorsStorage
+import org.ucfs.descriptors.FifoSchedulingPolicy
+import org.ucfs.descriptors.InputPositionSchedulingPolicy
+import org.ucfs.descriptors.RsmStatePrioritySchedulingPolicy
+import org.ucfs.input.InputGraph
+import org.ucfs.input.TerminalInputLabel
+import org.ucfs.parser.Gll
+import org.ucfs.parser.IGll
+import org.ucfs.rsm.RsmState
+
+class FifoSchedulingCorrectnessTest : AbstractModeCorrectnessTest() {
+    override fun createGll(rsm: RsmState, inputGraph: InputGraph<Int, TerminalInputLabel>): IGll<Int, TerminalInputLabel> {
+        return Gll.gll(rsm, inputGraph, DescriptorsStorage(FifoSchedulingPolicy()))
+    }
+}
+
+class InputPositionSchedulingCorrectnessTest : AbstractModeCorrectnessTest() {
+    override fun createGll(rsm: RsmState, inputGraph: InputGraph<Int, TerminalInputLabel>): IGll<Int, TerminalInputLabel> {
+        return Gll.gll(rsm, inputGraph, DescriptorsStorage(InputPositionSchedulingPolicy.natural()))
+    }
+}
+
+class RsmStatePrioritySchedulingCorrectnessTest : AbstractModeCorrectnessTest() {
+    override fun createGll(rsm: RsmState, inputGraph: InputGraph<Int, TerminalInputLabel>): IGll<Int, TerminalInputLabel> {
+        return Gll.gll(rsm, inputGraph, DescriptorsStorage(RsmStatePrioritySchedulingPolicy()))
+    }
+}
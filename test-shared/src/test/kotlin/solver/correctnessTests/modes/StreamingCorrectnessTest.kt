@@ -0,0 +1,45 @@
+package solver.correctnessTests.modes
+
+import org.junit.jupiter.api.Test
+import org.ucfs.input.DotParser
+import org.ucfs.parser.Gll
+import org.ucfs.sppf.node.RangeSppfNode
+import solver.benchmarks.CAliasTest.CAliasGrammar
+import java.io.File
+import kotlin.test.assertEquals
+import kotlin.test.assertNotNull
+
+class StreamingCorrectnessTest {
+    private fun getRanges(results: Iterable<RangeSppfNode<Int>>) =
+        results.map { it.inputRange!!.from to it.inputRange!!.to }.sortedWith(compareBy({ it.first }, { it.second }))
+
+    @Test
+    fun checkSameResultsAsParse() {
+        forEachCorrectnessCase { grammar, caseName, readInput ->
+            val expected = getRanges(Gll.gll(grammar.rsm, readInput()).parse())
+            val streamed = getRanges(Gll.gll(grammar.rsm, readInput()).parseSequence().toList())
+            assertEquals(expected, streamed, "for grammar ${grammar.name} at $caseName")
+
+            val collected = ArrayList<RangeSppfNode<Int>>()
+            Gll.gll(grammar.rsm, readInput()).parse { collected.add(it) }
+            assertEquals(expected, getRanges(collected), "for grammar ${grammar.name} at $caseName")
+        }
+    }
+
+    @Test
+    fun checkEarlyTermination() {
+        val input = File("src/test/resources/benchmarks/CAliasGrammar/smallTest/input.dot").readText()
+        val grammar = CAliasGrammar()
+
+        val firstGll = Gll.gll(grammar.rsm, DotParser().parseDot(input))
+        firstGll.parseSequence().first()
+        assertEquals(1, firstGll.ctx.parseResults.size)
+        assertNotNull(firstGll.ctx.descriptors.nextToHandle(), "parsing should stop before all descriptors are handled")
+
+        val callbackGll = Gll.gll(grammar.rsm, DotParser().parseDot(input))
+        var count = 0
+        callbackGll.parse { ++count < 3 }
+        assertEquals(3, count)
+        assertEquals(3, callbackGll.ctx.parseResults.size)
+    }
+}
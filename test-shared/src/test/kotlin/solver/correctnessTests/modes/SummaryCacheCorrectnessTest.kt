@@ -0,0 +1,75 @@
+package solver.correctnessTests.modes
+
+import org.junit.jupiter.api.Test
+import org.ucfs.grammar.combinator.Grammar
+import org.ucfs.input.InputGraph
+import org.ucfs.input.TerminalInputLabel
+import org.ucfs.parser.Gll
+import org.ucfs.parser.ParseBudget
+import org.ucfs.parser.SummaryCache
+import org.ucfs.rsm.symbol.Nonterminal
+import kotlin.test.assertEquals
+import kotlin.test.assertNull
+import kotlin.test.assertTrue
+
+/**
+ * Derivation trees of cached calls aren't built, so only found paths are compared
+ */
+class SummaryCacheCorrectnessTest {
+    /**
+     * Runs single-source query from each vertex of input, all queries share given cache
+     */
+    private fun checkSingleSourceQueries(
+        grammar: Grammar, caseName: String, input: InputGraph<Int, TerminalInputLabel>, cache: SummaryCache<Int>
+    ) {
+        for (source in input.vertices.sorted()) {
+            input.startVertices.clear()
+            input.addStartVertex(source)
+            val expected = Gll.gll(grammar.rsm, input).recognize()
+            val actual = Gll.gll(grammar.rsm, input, summaryCache = cache).recognize()
+            assertEquals(expected, actual, "for grammar ${grammar.name} at $caseName from $source")
+        }
+    }
+
+    @Test
+    fun checkSamePathsAsDefaultGll() {
+        forEachCorrectnessCase { grammar, caseName, readInput ->
+            checkSingleSourceQueries(grammar, caseName, readInput(), SummaryCache(1000))
+        }
+    }
+
+    @Test
+    fun checkSamePathsWithEviction() {
+        forEachCorrectnessCase { grammar, caseName, readInput ->
+            val cache = SummaryCache<Int>(2)
+            checkSingleSourceQueries(grammar, caseName, readInput(), cache)
+            assertTrue(cache.endsCount <= 2)
+        }
+    }
+
+    @Test
+    fun checkLeastRecentlyUsedIsEvicted() {
+        val nonterminal = Nonterminal("S")
+        val cache = SummaryCache<Int>(4)
+        cache.put(nonterminal, 0, listOf(1, 2))
+        cache.put(nonterminal, 1, listOf())
+        cache.getEnds(nonterminal, 0)
+        cache.put(nonterminal, 2, listOf(3))
+        assertEquals(4, cache.endsCount)
+        // summary without ends takes place of one end
+        cache.put(nonterminal, 3, listOf(4))
+        assertNull(cache.getEnds(nonterminal, 1))
+        assertEquals(listOf(1, 2), cache.getEnds(nonterminal, 0))
+        assertEquals(3, cache.size)
+        assertEquals(4, cache.endsCount)
+    }
+
+    @Test
+    fun checkInterruptedRunIsNotCached() {
+        forEachCorrectnessCase { grammar, caseName, readInput ->
+            val cache = SummaryCache<Int>(1000)
+            Gll.gll(grammar.rsm, readInput(), summaryCache = cache).parse(ParseBudget(maxDescriptors = 1, checkInterval = 1))
+            assertEquals(0, cache.size, "for grammar ${grammar.name} at $caseName")
+        }
+    }
+}
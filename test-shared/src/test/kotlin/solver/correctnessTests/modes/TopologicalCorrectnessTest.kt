@@ -0,0 +1,60 @@
+package solver.correctnessTests.modes
+
+import org.junit.jupiter.api.Test
+import org.ucfs.descriptors.TopologicalDescriptorsStorage
+import org.ucfs.input.InputGraph
+import org.ucfs.input.LinearInput
+import org.ucfs.input.TerminalInputLabel
+import org.ucfs.input.getTopologicalOrder
+import org.ucfs.parser.Gll
+import org.ucfs.parser.IGll
+import org.ucfs.rsm.RsmState
+import org.ucfs.rsm.symbol.Term
+import solver.correctnessTests.SimplifiedDyckGrammarTest.SimplifiedDyckGrammar
+import kotlin.test.assertEquals
+import kotlin.test.assertFailsWith
+import kotlin.test.assertTrue
+
+class TopologicalCorrectnessTest : AbstractModeCorrectnessTest() {
+    override fun isApplicable(inputGraph: InputGraph<Int, TerminalInputLabel>): Boolean {
+        return try {
+            inputGraph.getTopologicalOrder()
+            true
+        } catch (e: IllegalArgumentException) {
+            false
+        }
+    }
+
+    override fun createGll(rsm: RsmState, inputGraph: InputGraph<Int, TerminalInputLabel>): IGll<Int, TerminalInputLabel> {
+        return Gll.topological(rsm, inputGraph)
+    }
+
+    @Test
+    fun checkCycleIsRejected() {
+        val input = InputGraph<Int, TerminalInputLabel>()
+        input.addStartVertex(0)
+        input.addEdge(0, TerminalInputLabel(Term("a")), 1)
+        input.addEdge(1, TerminalInputLabel(Term("b")), 0)
+        assertFailsWith<IllegalArgumentException> { input.getTopologicalOrder() }
+    }
+
+    @Test
+    fun checkFrontierOnLongLinearInput() {
+        val depth = 1000
+        val input = LinearInput.buildFromString("( ".repeat(depth) + ") ".repeat(depth))
+        val gll = Gll.topological(SimplifiedDyckGrammar().rsm, input) { it }
+        val descriptors = gll.ctx.descriptors as TopologicalDescriptorsStorage
+        gll.ctx.parseResults = HashSet()
+        gll.initDescriptors(input)
+        var maxFrontier = 0
+        var descriptor = descriptors.nextToHandle()
+        while (descriptor != null) {
+            gll.handleDescriptor(descriptor)
+            maxFrontier = maxOf(maxFrontier, descriptors.frontierSize)
+            descriptor = descriptors.nextToHandle()
+        }
+        val results = gll.ctx.parseResults.map { it.inputRange!!.from to it.inputRange!!.to }.toSet()
+        assertEquals(setOf(0 to 0, 0 to 2 * depth), results)
+        assertTrue(maxFrontier <= 2, "frontier size $maxFrontier")
+    }
+}